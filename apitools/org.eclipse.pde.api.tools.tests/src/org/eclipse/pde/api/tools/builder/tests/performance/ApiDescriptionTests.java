@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,17 @@ package org.eclipse.pde.api.tools.builder.tests.performance;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.jdt.core.Signature;
+import org.eclipse.pde.api.tools.internal.ApiDescription;
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
 import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.Factory;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.VisibilityModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IReferenceTypeDescriptor;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.model.tests.TestSuiteHelper;
@@ -83,4 +92,62 @@ public class ApiDescriptionTests extends PerformanceTest {
 		commitMeasurements();
 		assertPerformance();
 	}
+
+	/**
+	 * Measures the heap used by the API descriptions of a large synthetic
+	 * baseline component
+	 */
+	public void testApiDescriptionHeap() throws Exception {
+		tagAsSummary("Heap used by API description", Dimension.USED_JAVA_HEAP); //$NON-NLS-1$
+		for (int j = 0; j < 5; j++) {
+			startMeasuring();
+			IApiDescription description = buildLargeDescription();
+			stopMeasuring();
+			assertNotNull(description.resolveAnnotations(Factory.packageDescriptor("p0"))); //$NON-NLS-1$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * Measures the heap used by the compact copies of the API descriptions of
+	 * a large synthetic baseline component, for comparison with
+	 * {@link #testApiDescriptionHeap()}
+	 */
+	public void testCompactApiDescriptionHeap() throws Exception {
+		tagAsSummary("Heap used by compact API description", Dimension.USED_JAVA_HEAP); //$NON-NLS-1$
+		for (int j = 0; j < 5; j++) {
+			ApiDescription description = buildLargeDescription();
+			startMeasuring();
+			IApiDescription compact = CompactApiDescription.compact(description);
+			stopMeasuring();
+			assertNotNull(compact.resolveAnnotations(Factory.packageDescriptor("p0"))); //$NON-NLS-1$
+		}
+		commitMeasurements();
+		assertPerformance();
+	}
+
+	/**
+	 * @return a description with 100 packages of 50 types with 20 methods and
+	 *         10 fields each
+	 */
+	private ApiDescription buildLargeDescription() {
+		ApiDescription description = new ApiDescription("perf.component"); //$NON-NLS-1$
+		String signature = Signature.createMethodSignature(new String[0], Signature.SIG_VOID);
+		for (int p = 0; p < 100; p++) {
+			IPackageDescriptor pkg = Factory.packageDescriptor("p" + p); //$NON-NLS-1$
+			description.setVisibility(pkg, p % 2 == 0 ? VisibilityModifiers.API : VisibilityModifiers.PRIVATE);
+			for (int t = 0; t < 50; t++) {
+				IReferenceTypeDescriptor type = pkg.getType("T" + t); //$NON-NLS-1$
+				description.setRestrictions(type, RestrictionModifiers.NO_EXTEND);
+				for (int m = 0; m < 20; m++) {
+					description.setRestrictions(type.getMethod("m" + m, signature), RestrictionModifiers.NO_OVERRIDE); //$NON-NLS-1$
+				}
+				for (int f = 0; f < 10; f++) {
+					description.setRestrictions(type.getField("f" + f), RestrictionModifiers.NO_REFERENCE); //$NON-NLS-1$
+				}
+			}
+		}
+		return description;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2018 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -83,6 +83,18 @@ public class UseScanTests extends PerformanceTestCase {
 	}
 
 	public void testUseScan() throws Exception {
+		runUseScan(1);
+	}
+
+	/**
+	 * Runs the same use scan as {@link #testUseScan()}, searching one
+	 * component per available processor at the same time
+	 */
+	public void testParallelUseScan() throws Exception {
+		runUseScan(Runtime.getRuntime().availableProcessors());
+	}
+
+	private void runUseScan(int threads) throws Exception {
 
 		// get workspace target
 		ITargetPlatformService service = ApiPlugin.getDefault().acquireService(ITargetPlatformService.class);
@@ -115,7 +127,7 @@ public class UseScanTests extends PerformanceTestCase {
 		// run 2 times
 		for (int i = 0; i < 2; i++) {
 			startMeasuring();
-			engine.search(fBaseline, requestor, reporter, new NullProgressMonitor());
+			engine.search(fBaseline, requestor, reporter, new NullProgressMonitor(), threads);
 			stopMeasuring();
 			scrubReportLocation(TMP_PATH.toFile());
 		}
@@ -32,6 +32,7 @@ import org.eclipse.pde.api.tools.builder.tests.ApiTestingEnvironment;
 import org.eclipse.pde.api.tools.internal.ApiDescription;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionProcessor;
 import org.eclipse.pde.api.tools.internal.ApiDescriptionXmlCreator;
+import org.eclipse.pde.api.tools.internal.CompactApiDescription;
 import org.eclipse.pde.api.tools.internal.IApiCoreConstants;
 import org.eclipse.pde.api.tools.internal.model.ApiModelFactory;
 import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
@@ -220,6 +221,36 @@ public class ApiDescriptionTests {
 		doVisitTypes(manifest);
 	}
 
+	/**
+	 * Tests that a compact copy of the manually created manifest visits and
+	 * resolves the same as the original, also after being modified
+	 */
+	@Test
+	public void testCompactDescription() {
+		IApiDescription manifest = CompactApiDescription.compact((ApiDescription) buildManifest());
+		doVisitTypes(manifest);
+		IReferenceTypeDescriptor type = Factory.typeDescriptor("a.b.c.spi.SpiC"); //$NON-NLS-1$
+		IApiAnnotations description = manifest.resolveAnnotations(type.getField("f4")); //$NON-NLS-1$
+		assertEquals("Wrong visibility", VisibilityModifiers.SPI, description.getVisibility()); //$NON-NLS-1$
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_REFERENCE, description.getRestrictions()); //$NON-NLS-1$
+		assertNull("The description must be null", manifest.resolveAnnotations(Factory.typeDescriptor("x.y.z.Missing"))); //$NON-NLS-1$ //$NON-NLS-2$
+
+		// changing an existing element is done in place
+		manifest.setVisibility(Factory.packageDescriptor("a.b.c.spi"), VisibilityModifiers.PRIVATE); //$NON-NLS-1$
+		description = manifest.resolveAnnotations(type);
+		assertEquals("Wrong visibility", VisibilityModifiers.PRIVATE, description.getVisibility()); //$NON-NLS-1$
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_INSTANTIATE, description.getRestrictions()); //$NON-NLS-1$
+
+		// adding an element converts the description
+		IReferenceTypeDescriptor added = Factory.typeDescriptor("a.b.c.spi.SpiF"); //$NON-NLS-1$
+		manifest.setRestrictions(added, RestrictionModifiers.NO_EXTEND);
+		description = manifest.resolveAnnotations(added);
+		assertEquals("Wrong visibility", VisibilityModifiers.PRIVATE, description.getVisibility()); //$NON-NLS-1$
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_EXTEND, description.getRestrictions()); //$NON-NLS-1$
+		description = manifest.resolveAnnotations(type);
+		assertEquals("Wrong restrictions", RestrictionModifiers.NO_INSTANTIATE, description.getRestrictions()); //$NON-NLS-1$
+	}
+
 	/**
 	 * Tests restoring API settings from component XML. These settings are not
 	 * quite as rich as we have in the usual baseline (no notion of SPI package,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2012, 2019 IBM Corporation and others.
+ * Copyright (c) 2012, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,9 +19,11 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.runtime.CoreException;
@@ -40,7 +42,16 @@ public class AntFilterStore extends FilterStore {
 
 	String fComponentId = null;
 	String fFiltersRoot = null;
-	public static final List<IApiProblem> filteredAPIProblems = new ArrayList<>();
+	/**
+	 * The problems filtered so far. The stores of several components may
+	 * filter problems at the same time when components are analyzed in
+	 * parallel.
+	 */
+	public static final List<IApiProblem> filteredAPIProblems = Collections.synchronizedList(new ArrayList<>());
+	/**
+	 * Number of the filtered problems of each component id
+	 */
+	private static final Map<String, Integer> filteredCounts = new HashMap<>();
 	/**
 	 * Constructor
 	 */
@@ -53,11 +64,39 @@ public class AntFilterStore extends FilterStore {
 	public boolean isFiltered(IApiProblem problem) {
 		boolean isFiltered = super.isFiltered(problem);
 		if(isFiltered){
-			filteredAPIProblems.add(problem);
+			addFilteredProblem(fComponentId, problem);
 		}
 		return isFiltered;
 	}
 
+	/**
+	 * Records a filtered problem. The stores of several components may filter
+	 * problems at the same time during a parallel use scan.
+	 */
+	private static synchronized void addFilteredProblem(String componentId, IApiProblem problem) {
+		filteredAPIProblems.add(problem);
+		filteredCounts.merge(componentId, 1, Integer::sum);
+	}
+
+	/**
+	 * Forgets the problems filtered so far
+	 */
+	public static synchronized void clearFilteredProblems() {
+		filteredAPIProblems.clear();
+		filteredCounts.clear();
+	}
+
+	/**
+	 * Returns the number of problems filtered so far for the component with
+	 * the given id
+	 *
+	 * @param componentId the symbolic name of the component
+	 * @return the number of filtered problems
+	 */
+	public static synchronized int getFilteredCount(String componentId) {
+		return filteredCounts.getOrDefault(componentId, Integer.valueOf(0)).intValue();
+	}
+
 	@Override
 	protected synchronized void initializeApiFilters() {
 		if (fFilterMap != null) {
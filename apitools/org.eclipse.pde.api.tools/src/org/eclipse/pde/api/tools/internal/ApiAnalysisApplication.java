@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2024 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,12 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.api.tools.internal;
 
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -63,30 +69,59 @@ public class ApiAnalysisApplication implements IApplication {
 	private static class Request {
 		private static final String FAIL_ON_ERROR_ARG = "failOnError"; //$NON-NLS-1$
 		private static final String PROJECT_ARG = "project"; //$NON-NLS-1$
+		private static final String PROJECT_LIST_ARG = "projectList"; //$NON-NLS-1$
 		private static final String BASELINE_ARG = "baseline"; //$NON-NLS-1$
 		private static final String BASELINE_DEFAULT_VALUE = "default"; //$NON-NLS-1$
 		private static final String DEPENDENCY_LIST_ARG = "dependencyList"; //$NON-NLS-1$
+		private static final String STDIN_ARG = "stdin"; //$NON-NLS-1$
+		private static final String FORMAT_ARG = "format"; //$NON-NLS-1$
+		private static final String FORMAT_JSON_VALUE = "json"; //$NON-NLS-1$
 
 		private Request() {
 		}
 
-		public static Request readFromArgs(String[] params) {
+		public static Request readFromArgs(String[] params) throws IOException {
+			return readFromArgs(params, null);
+		}
+
+		/**
+		 * Reads a request, using the baseline, dependency list and options of
+		 * the given defaults unless they are specified again
+		 */
+		public static Request readFromArgs(String[] params, Request defaults) throws IOException {
 			Request res = new Request();
+			if (defaults != null) {
+				res.baselinePath = defaults.baselinePath;
+				res.failOnError = defaults.failOnError;
+				res.tpFile = defaults.tpFile;
+				res.json = defaults.json;
+			}
 			String currentKey = null;
 			for (String param : params) {
-				if (param.charAt(0) == '-') {
+				if (!param.isEmpty() && param.charAt(0) == '-') {
 					if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 						res.failOnError = true;
 					}
 					currentKey = param.substring(1);
+					if (STDIN_ARG.equals(currentKey)) {
+						res.stdin = true;
+					}
 				} else if (PROJECT_ARG.equals(currentKey)) {
-					res.project = new File(param);
-				} else if (BASELINE_ARG.equals(currentKey) && !BASELINE_DEFAULT_VALUE.equals(param)) {
-					res.baselinePath = new File(param);
+					res.projects.add(new File(param));
+				} else if (PROJECT_LIST_ARG.equals(currentKey)) {
+					for (String line : Files.readAllLines(new File(param).toPath())) {
+						if (!line.isBlank()) {
+							res.projects.add(new File(line.strip()));
+						}
+					}
+				} else if (BASELINE_ARG.equals(currentKey)) {
+					res.baselinePath = BASELINE_DEFAULT_VALUE.equals(param) ? null : new File(param);
 				} else if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
 					res.failOnError = Boolean.parseBoolean(param);
 				} else if (DEPENDENCY_LIST_ARG.equals(currentKey)) {
 					res.tpFile = new File(param);
+				} else if (FORMAT_ARG.equals(currentKey)) {
+					res.json = FORMAT_JSON_VALUE.equals(param);
 				}
 			}
 			if (FAIL_ON_ERROR_ARG.equals(currentKey)) {
@@ -95,37 +130,179 @@ public class ApiAnalysisApplication implements IApplication {
 			return res;
 		}
 
-		public File project;
+		public final List<File> projects = new ArrayList<>();
 		public File baselinePath;
 		public boolean failOnError;
 		public File tpFile;
+		public boolean stdin;
+		public boolean json;
 	}
 
 	private ICoreRunnable restoreOriginalProjectState = null;
 
+	/**
+	 * Identifies the loaded baseline and target platform by their file and
+	 * time stamp, so that they are only reloaded for another project if they
+	 * changed
+	 */
+	private String loadedBaseline;
+	private String loadedTarget;
+
+	/**
+	 * The markers reported for the current project in JSON format
+	 */
+	private List<String> jsonMarkers;
+
 	@Override
 	public Object start(IApplicationContext context) throws Exception {
+		IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
+		desc.setAutoBuilding(false);
+		ResourcesPlugin.getWorkspace().setDescription(desc);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
+		PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
+
+		Request args;
+		try {
+			args = Request.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
+		} catch (IOException e) {
+			System.err.println("Arguments not read: " + e); //$NON-NLS-1$
+			return IStatus.ERROR;
+		}
+		int result = IStatus.OK;
+		for (File project : args.projects) {
+			result = Math.max(result, analyze(args, project));
+		}
+		if (args.stdin) {
+			result = Math.max(result, serve(args));
+		} else if (args.projects.isEmpty()) {
+			System.err.println("Project not loaded."); //$NON-NLS-1$
+			return IStatus.ERROR;
+		}
+		return result;
+	}
+
+	/**
+	 * Analyzes the projects requested on the standard input until it is
+	 * closed, keeping the baseline and target platform loaded between
+	 * requests. Each line is either a project directory or arguments in the
+	 * same format as the application arguments. Arguments that contain spaces
+	 * are enclosed in double quotes, a double quote or backslash inside quotes
+	 * is escaped with a backslash.
+	 *
+	 * @return the worst result of all requests
+	 */
+	private int serve(Request defaults) throws IOException {
+		int result = IStatus.OK;
+		BufferedReader reader = new BufferedReader(new InputStreamReader(System.in, Charset.defaultCharset()));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			line = line.strip();
+			if (line.isEmpty()) {
+				continue;
+			}
+			Request request;
+			try {
+				if (line.charAt(0) == '-') {
+					request = Request.readFromArgs(splitArguments(line), defaults);
+				} else {
+					request = Request.readFromArgs(new String[0], defaults);
+					request.projects.add(new File(line));
+				}
+			} catch (IOException | IllegalArgumentException e) {
+				System.err.println("Request not read: " + e); //$NON-NLS-1$
+				System.err.flush();
+				result = IStatus.ERROR;
+				continue;
+			}
+			for (File project : request.projects) {
+				result = Math.max(result, analyze(request, project));
+			}
+			System.out.flush();
+			System.err.flush();
+		}
+		return result;
+	}
+
+	/**
+	 * Splits a request line into arguments at white space outside of double
+	 * quotes
+	 *
+	 * @throws IllegalArgumentException if a quote is not closed
+	 */
+	private static String[] splitArguments(String line) {
+		List<String> arguments = new ArrayList<>();
+		StringBuilder argument = null;
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '\\' && i + 1 < line.length() && (line.charAt(i + 1) == '"' || line.charAt(i + 1) == '\\')) {
+					argument.append(line.charAt(++i));
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					argument.append(c);
+				}
+			} else if (Character.isWhitespace(c)) {
+				if (argument != null) {
+					arguments.add(argument.toString());
+					argument = null;
+				}
+			} else {
+				if (argument == null) {
+					argument = new StringBuilder();
+				}
+				if (c == '"') {
+					quoted = true;
+				} else {
+					argument.append(c);
+				}
+			}
+		}
+		if (quoted) {
+			throw new IllegalArgumentException("Unclosed quote: " + line); //$NON-NLS-1$
+		}
+		if (argument != null) {
+			arguments.add(argument.toString());
+		}
+		return arguments.toArray(new String[arguments.size()]);
+	}
+
+	private int analyze(Request args, File projectPath) throws CoreException {
+		jsonMarkers = args.json ? new ArrayList<>() : null;
+		int result = doAnalyze(args, projectPath);
+		if (jsonMarkers != null) {
+			System.out.println(String.format(Locale.ROOT, "{\"project\":%s,\"status\":%d,\"markers\":[%s]}", //$NON-NLS-1$
+					quote(projectPath.getAbsolutePath()), result, String.join(",", jsonMarkers))); //$NON-NLS-1$
+			jsonMarkers = null;
+		}
+		return result;
+	}
+
+	private int doAnalyze(Request args, File projectPath) throws CoreException {
 		restoreOriginalProjectState = null;
 		try {
-			IWorkspaceDescription desc = ResourcesPlugin.getWorkspace().getDescription();
-			desc.setAutoBuilding(false);
-			ResourcesPlugin.getWorkspace().setDescription(desc);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.DISABLE_API_ANALYSIS_BUILDER, false);
-			PDECore.getDefault().getPreferencesManager().setValue(ICoreConstants.RUN_API_ANALYSIS_AS_JOB, false);
-
-			Request args = Request
-					.readFromArgs((String[]) context.getArguments().get(IApplicationContext.APPLICATION_ARGS));
-			IProject project = importProject(args.project);
+			IProject project = importProject(projectPath);
 			if (project == null) {
 				System.err.println("Project not loaded."); //$NON-NLS-1$
 				return IStatus.ERROR;
 			}
-			IApiBaseline baseline = setBaseline(args.baselinePath);
-			if (baseline == null) {
-				System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
-				return IStatus.ERROR;
+			String baselineKey = getKey(args.baselinePath);
+			if (loadedBaseline == null || !loadedBaseline.equals(baselineKey)) {
+				loadedBaseline = null;
+				IApiBaseline baseline = setBaseline(args.baselinePath);
+				if (baseline == null) {
+					System.err.println("Baseline shouldn't be null."); //$NON-NLS-1$
+					return IStatus.ERROR;
+				}
+				loadedBaseline = baselineKey;
+			}
+			String targetKey = getKey(args.tpFile);
+			if (args.tpFile != null && !targetKey.equals(loadedTarget)) {
+				loadedTarget = null;
+				setTargetPlatform(args.tpFile);
+				loadedTarget = targetKey;
 			}
-			setTargetPlatform(args.tpFile);
 
 			project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
 			// wait untill all jobs has finished that might be sceduled as part of the
@@ -152,7 +329,7 @@ public class ApiAnalysisApplication implements IApplication {
 			if (allNonAPIErrors.length > 0) {
 				System.err.println("Some blocking (most likely link/compilation) errors are present:"); //$NON-NLS-1$
 				for (IMarker marker : allNonAPIErrors) {
-					printMarker(marker, "FATAL"); //$NON-NLS-1$
+					reportMarker(marker, "FATAL"); //$NON-NLS-1$
 				}
 				System.err.println("Some blocking (most likely link/compilation) errors are present ^^^"); //$NON-NLS-1$
 				return 10;
@@ -163,15 +340,17 @@ public class ApiAnalysisApplication implements IApplication {
 					.toArray(IMarker[]::new);
 			System.err.println(errorMarkers.length + " API ERRORS"); //$NON-NLS-1$
 			for (IMarker marker : errorMarkers) {
-				printMarker(marker, "API ERROR"); //$NON-NLS-1$
+				reportMarker(marker, "API ERROR"); //$NON-NLS-1$
 			}
 			// warnings
 			IMarker[] warningMarkers = Arrays.stream(allAPIProbleMarkers)
 					.filter(marker -> marker.getAttribute(IMarker.SEVERITY, -1) == IMarker.SEVERITY_WARNING)
 					.toArray(IMarker[]::new);
-			System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
+			if (jsonMarkers == null) {
+				System.out.println(warningMarkers.length + " API warnings"); //$NON-NLS-1$
+			}
 			for (IMarker marker : warningMarkers) {
-				printMarker(marker, "API WARNING"); //$NON-NLS-1$
+				reportMarker(marker, "API WARNING"); //$NON-NLS-1$
 			}
 			// fail
 			if (args.failOnError && errorMarkers.length > 0) {
@@ -191,6 +370,51 @@ public class ApiAnalysisApplication implements IApplication {
 		}
 	}
 
+	/**
+	 * Returns a key identifying the given file and its content, or
+	 * <code>"default"</code> for no file
+	 */
+	private static String getKey(File file) {
+		if (file == null) {
+			return Request.BASELINE_DEFAULT_VALUE;
+		}
+		return file.getAbsolutePath() + '@' + file.lastModified();
+	}
+
+	private void reportMarker(IMarker marker, String type) {
+		if (jsonMarkers == null) {
+			printMarker(marker, type);
+			return;
+		}
+		String message = marker.getAttribute(IMarker.MESSAGE, "").trim(); //$NON-NLS-1$
+		String description = marker.getAttribute("description", "").trim(); //$NON-NLS-1$ //$NON-NLS-2$
+		jsonMarkers.add(String.format(Locale.ROOT,
+				"{\"type\":%s,\"file\":%s,\"line\":%d,\"message\":%s,\"description\":%s,\"location\":%s}", //$NON-NLS-1$
+				quote(type), quote(marker.getResource().getName()), marker.getAttribute(IMarker.LINE_NUMBER, -1),
+				quote(message), quote(description), quote(getFullPath(marker))));
+	}
+
+	private static String quote(String value) {
+		StringBuilder result = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"', '\\' -> result.append('\\').append(c);
+				case '\n' -> result.append("\\n"); //$NON-NLS-1$
+				case '\r' -> result.append("\\r"); //$NON-NLS-1$
+				case '\t' -> result.append("\\t"); //$NON-NLS-1$
+				default -> {
+					if (c < 0x20) {
+						result.append(String.format("\\u%04x", (int) c)); //$NON-NLS-1$
+					} else {
+						result.append(c);
+					}
+				}
+			}
+		}
+		return result.append('"').toString();
+	}
+
 	private static void printMarker(IMarker marker, String type) {
 		String path = getFullPath(marker);
 		String file = marker.getResource().getName();
@@ -285,7 +509,7 @@ public class ApiAnalysisApplication implements IApplication {
 			switch (resolutionStatus.getSeverity())
 				{
 				case IStatus.WARNING ->
-					System.out.println("WARNING resolving target platform: " + resolutionStatus.getMessage()); //$NON-NLS-1$
+					System.err.println("WARNING resolving target platform: " + resolutionStatus.getMessage()); //$NON-NLS-1$
 				case IStatus.ERROR ->
 					throw new CoreException(resolutionStatus);
 				default -> { /*Nothing*/ }
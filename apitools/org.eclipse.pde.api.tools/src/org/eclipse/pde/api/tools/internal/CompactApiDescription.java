@@ -0,0 +1,429 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.pde.api.tools.internal.ApiDescription.ManifestNode;
+import org.eclipse.pde.api.tools.internal.provisional.ApiDescriptionVisitor;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAccess;
+import org.eclipse.pde.api.tools.internal.provisional.IApiAnnotations;
+import org.eclipse.pde.api.tools.internal.provisional.IApiDescription;
+import org.eclipse.pde.api.tools.internal.provisional.RestrictionModifiers;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IElementDescriptor;
+import org.eclipse.pde.api.tools.internal.provisional.descriptors.IPackageDescriptor;
+
+/**
+ * A compact, array based copy of an {@link ApiDescription} used for the
+ * components of API baselines, which are read far more often than they are
+ * modified.
+ * <p>
+ * The nodes of the description are stored in breadth first order, so the
+ * children of each node are contiguous and sorted with
+ * {@link ApiDescription#fgComparator}. Visibility and restrictions of a node
+ * are packed into a single int and element descriptors are interned.
+ * </p>
+ * <p>
+ * Visibility and restrictions of existing elements can be changed in place.
+ * Any other modification converts the description back into a regular
+ * {@link ApiDescription} that is used from then on.
+ * </p>
+ *
+ * @see ApiDescription
+ */
+public class CompactApiDescription implements IApiDescription {
+
+	/**
+	 * Interned element descriptors, shared by all compact descriptions
+	 */
+	private static final Map<IElementDescriptor, WeakReference<IElementDescriptor>> fgDescriptors = new WeakHashMap<>();
+
+	/**
+	 * Shared {@link IApiAccess} instances by access level
+	 */
+	private static final Map<Integer, IApiAccess> fgAccess = new ConcurrentHashMap<>();
+
+	private static final int RESTRICTIONS_SHIFT = 16;
+	private static final int VISIBILITY_MASK = 0xFFFF;
+
+	/**
+	 * Access levels of the elements of one package
+	 */
+	private record PackageAccess(IElementDescriptor[] elements, IApiAccess[] access) {
+	}
+
+	private final String fOwningComponentId;
+
+	/**
+	 * The element descriptor of each node
+	 */
+	private final IElementDescriptor[] fElements;
+
+	/**
+	 * The index of the parent of each node, or -1 for packages
+	 */
+	private final int[] fParents;
+
+	/**
+	 * The children of node <code>i</code> are the nodes
+	 * <code>fChildStart[i]</code> to <code>fChildStart[i + 1] - 1</code>
+	 */
+	private final int[] fChildStart;
+
+	/**
+	 * The number of package nodes, which are the first nodes
+	 */
+	private final int fPackageCount;
+
+	/**
+	 * Visibility (low 16 bits) and restrictions (high 16 bits) of each node
+	 */
+	private final int[] fModifiers;
+
+	private final Map<IPackageDescriptor, PackageAccess> fAccess;
+
+	/**
+	 * The regular description this one has been converted to on modification
+	 */
+	private volatile ApiDescription fInflated;
+
+	private CompactApiDescription(String owningComponentId, List<ManifestNode> nodes, int packageCount, Map<IPackageDescriptor, PackageAccess> access) {
+		fOwningComponentId = owningComponentId;
+		int size = nodes.size();
+		fElements = new IElementDescriptor[size];
+		fParents = new int[size];
+		fChildStart = new int[size + 1];
+		fModifiers = new int[size];
+		fPackageCount = packageCount;
+		fAccess = access;
+		Map<ManifestNode, Integer> indices = new IdentityHashMap<>(size);
+		int next = packageCount;
+		for (int i = 0; i < size; i++) {
+			ManifestNode node = nodes.get(i);
+			indices.put(node, Integer.valueOf(i));
+			fElements[i] = intern(node.element);
+			fParents[i] = node.parent == null ? -1 : indices.get(node.parent).intValue();
+			fModifiers[i] = pack(node.visibility, node.restrictions);
+			fChildStart[i] = next;
+			next += node.children.size();
+		}
+		fChildStart[size] = next;
+	}
+
+	/**
+	 * Creates a compact copy of the given description. The given description
+	 * is not modified and can be discarded afterwards.
+	 *
+	 * @param description the description to copy
+	 * @return a compact copy of the description
+	 */
+	public static CompactApiDescription compact(ApiDescription description) {
+		List<ManifestNode> nodes = new ArrayList<>(sortedNodes(description.fPackageMap));
+		int packageCount = nodes.size();
+		for (int i = 0; i < nodes.size(); i++) {
+			nodes.addAll(sortedNodes(nodes.get(i).children));
+		}
+		Map<IPackageDescriptor, PackageAccess> access = null;
+		if (description.fAccessMap != null && !description.fAccessMap.isEmpty()) {
+			access = new HashMap<>(description.fAccessMap.size() * 4 / 3 + 1);
+			for (Entry<IPackageDescriptor, HashMap<IElementDescriptor, IApiAccess>> entry : description.fAccessMap.entrySet()) {
+				HashMap<IElementDescriptor, IApiAccess> levels = entry.getValue();
+				IElementDescriptor[] elements = new IElementDescriptor[levels.size()];
+				IApiAccess[] values = new IApiAccess[levels.size()];
+				int i = 0;
+				for (Entry<IElementDescriptor, IApiAccess> level : levels.entrySet()) {
+					elements[i] = intern(level.getKey());
+					values[i] = access(level.getValue().getAccessLevel());
+					i++;
+				}
+				access.put((IPackageDescriptor) intern(entry.getKey()), new PackageAccess(elements, values));
+			}
+		}
+		return new CompactApiDescription(description.fOwningComponentId, nodes, packageCount, access);
+	}
+
+	private static List<ManifestNode> sortedNodes(Map<IElementDescriptor, ManifestNode> children) {
+		List<ManifestNode> nodes = new ArrayList<>(children.values());
+		nodes.sort((n1, n2) -> ApiDescription.fgComparator.compare(n1.element, n2.element));
+		return nodes;
+	}
+
+	private static IElementDescriptor intern(IElementDescriptor element) {
+		synchronized (fgDescriptors) {
+			WeakReference<IElementDescriptor> ref = fgDescriptors.get(element);
+			IElementDescriptor interned = ref == null ? null : ref.get();
+			if (interned == null) {
+				fgDescriptors.put(element, new WeakReference<>(element));
+				return element;
+			}
+			return interned;
+		}
+	}
+
+	private static IApiAccess access(int level) {
+		return fgAccess.computeIfAbsent(Integer.valueOf(level), ApiAccess::new);
+	}
+
+	private static int pack(int visibility, int restrictions) {
+		return (restrictions << RESTRICTIONS_SHIFT) | (visibility & VISIBILITY_MASK);
+	}
+
+	private int visibility(int node) {
+		return fModifiers[node] & VISIBILITY_MASK;
+	}
+
+	private int restrictions(int node) {
+		return fModifiers[node] >>> RESTRICTIONS_SHIFT;
+	}
+
+	/**
+	 * Returns the node for the given element, the closest enclosing node if
+	 * there is no node for the element itself, or -1 if there is neither.
+	 */
+	private int findNode(IElementDescriptor element) {
+		int node = -1;
+		int start = 0;
+		int end = fPackageCount;
+		for (IElementDescriptor current : element.getPath()) {
+			int child = findChild(start, end, current);
+			if (child == -1) {
+				return node;
+			}
+			node = child;
+			start = fChildStart[node];
+			end = fChildStart[node + 1];
+		}
+		return node;
+	}
+
+	/**
+	 * Binary search for the given element within the given range of sibling
+	 * nodes. Siblings with the same name (e.g. overloaded methods) compare
+	 * equal, so the neighbours of a match are checked as well.
+	 */
+	private int findChild(int start, int end, IElementDescriptor element) {
+		int low = start;
+		int high = end - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = ApiDescription.fgComparator.compare(fElements[mid], element);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				for (int i = mid; i >= start && ApiDescription.fgComparator.compare(fElements[i], element) == 0; i--) {
+					if (fElements[i].equals(element)) {
+						return i;
+					}
+				}
+				for (int i = mid + 1; i < end && ApiDescription.fgComparator.compare(fElements[i], element) == 0; i++) {
+					if (fElements[i].equals(element)) {
+						return i;
+					}
+				}
+				return -1;
+			}
+		}
+		return -1;
+	}
+
+	private int resolveVisibility(int node) {
+		int current = node;
+		int vis = visibility(current);
+		while (vis == ApiDescription.VISIBILITY_INHERITED && fParents[current] != -1) {
+			current = fParents[current];
+			vis = visibility(current);
+		}
+		return vis;
+	}
+
+	@Override
+	public IApiAnnotations resolveAnnotations(IElementDescriptor element) {
+		ApiDescription inflated = fInflated;
+		if (inflated != null) {
+			return inflated.resolveAnnotations(element);
+		}
+		int node = findNode(element);
+		if (node == -1) {
+			return null;
+		}
+		boolean exact = fElements[node].equals(element);
+		ApiAnnotations annotations = new ApiAnnotations(resolveVisibility(node), exact ? restrictions(node) : RestrictionModifiers.NO_RESTRICTIONS);
+		annotations.setExact(exact);
+		return annotations;
+	}
+
+	@Override
+	public IApiAccess resolveAccessLevel(IElementDescriptor element, IPackageDescriptor pelement) {
+		ApiDescription inflated = fInflated;
+		if (inflated != null) {
+			return inflated.resolveAccessLevel(element, pelement);
+		}
+		if (fAccess != null) {
+			PackageAccess access = fAccess.get(pelement);
+			if (access != null) {
+				for (int i = 0; i < access.elements().length; i++) {
+					if (access.elements()[i].equals(element)) {
+						return access.access()[i];
+					}
+				}
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void accept(ApiDescriptionVisitor visitor, IProgressMonitor monitor) {
+		ApiDescription inflated = fInflated;
+		if (inflated != null) {
+			inflated.accept(visitor, monitor);
+			return;
+		}
+		visitChildren(visitor, 0, fPackageCount, monitor);
+	}
+
+	@Override
+	public boolean accept(ApiDescriptionVisitor visitor, IElementDescriptor element, IProgressMonitor monitor) {
+		ApiDescription inflated = fInflated;
+		if (inflated != null) {
+			return inflated.accept(visitor, element, monitor);
+		}
+		int node = findNode(element);
+		if (node != -1) {
+			visitNode(visitor, node);
+			return true;
+		}
+		return false;
+	}
+
+	private void visitChildren(ApiDescriptionVisitor visitor, int start, int end, IProgressMonitor monitor) {
+		SubMonitor loopMonitor = SubMonitor.convert(monitor, end - start);
+		for (int i = start; i < end; i++) {
+			loopMonitor.split(1);
+			visitNode(visitor, i);
+		}
+	}
+
+	private void visitNode(ApiDescriptionVisitor visitor, int node) {
+		IApiAnnotations desc = new ApiAnnotations(resolveVisibility(node), restrictions(node));
+		boolean visitChildren = visitor.visitElement(fElements[node], desc);
+		if (visitChildren && fChildStart[node] < fChildStart[node + 1]) {
+			visitChildren(visitor, fChildStart[node], fChildStart[node + 1], null);
+		}
+		visitor.endVisitElement(fElements[node], desc);
+	}
+
+	@Override
+	public IStatus setVisibility(IElementDescriptor element, int visibility) {
+		ApiDescription inflated = fInflated;
+		if (inflated == null) {
+			int node = findNode(element);
+			if (node != -1 && fElements[node].equals(element)) {
+				fModifiers[node] = pack(visibility, restrictions(node));
+				return Status.OK_STATUS;
+			}
+			inflated = inflate();
+		}
+		return inflated.setVisibility(element, visibility);
+	}
+
+	@Override
+	public IStatus setRestrictions(IElementDescriptor element, int restrictions) {
+		ApiDescription inflated = fInflated;
+		if (inflated == null) {
+			int node = findNode(element);
+			if (node != -1 && fElements[node].equals(element)) {
+				fModifiers[node] = pack(visibility(node), restrictions);
+				return Status.OK_STATUS;
+			}
+			inflated = inflate();
+		}
+		return inflated.setRestrictions(element, restrictions);
+	}
+
+	@Override
+	public void setAccessLevel(IElementDescriptor element, IPackageDescriptor pelement, int access) {
+		inflate().setAccessLevel(element, pelement, access);
+	}
+
+	@Override
+	public IStatus setAddedProfile(IElementDescriptor element, int addedProfile) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setRemovedProfile(IElementDescriptor element, int removedProfile) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setSuperclass(IElementDescriptor element, String superclass) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setSuperinterfaces(IElementDescriptor element, String superinterfaces) {
+		return Status.OK_STATUS;
+	}
+
+	@Override
+	public IStatus setInterface(IElementDescriptor element, boolean interfaceFlag) {
+		return Status.OK_STATUS;
+	}
+
+	/**
+	 * Converts this description into a regular {@link ApiDescription} to
+	 * which all further requests are delegated
+	 */
+	private synchronized ApiDescription inflate() {
+		if (fInflated == null) {
+			ApiDescription description = new ApiDescription(fOwningComponentId);
+			// parents always precede their children
+			for (int i = 0; i < fElements.length; i++) {
+				description.setVisibility(fElements[i], visibility(i));
+				description.setRestrictions(fElements[i], restrictions(i));
+			}
+			if (fAccess != null) {
+				for (Entry<IPackageDescriptor, PackageAccess> entry : fAccess.entrySet()) {
+					PackageAccess access = entry.getValue();
+					for (int i = 0; i < access.elements().length; i++) {
+						description.setAccessLevel(access.elements()[i], entry.getKey(), access.access()[i].getAccessLevel());
+					}
+				}
+			}
+			fInflated = description;
+		}
+		return fInflated;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder buffer = new StringBuilder();
+		buffer.append("Compact API description for component: ").append(fOwningComponentId); //$NON-NLS-1$
+		return buffer.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2016 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -162,6 +162,12 @@ public class WorkspaceDeltaProcessor implements IElementChangedListener, IResour
 							System.out.println("processed REMOVED delta for package fragment: [" + fragment.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
 						}
 						((ApiBaseline) bmanager.getWorkspaceBaseline()).clearPackage(fragment.getElementName());
+					} else if (delta.getKind() == IJavaElementDelta.ADDED) {
+						// the package may have been cached as unresolvable
+						if (ApiPlugin.DEBUG_WORKSPACE_DELTA_PROCESSOR) {
+							System.out.println("processed ADDED delta for package fragment: [" + fragment.getElementName() + "]"); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+						((ApiBaseline) bmanager.getWorkspaceBaseline()).clearPackage(fragment.getElementName());
 					}
 					int flags = delta.getFlags();
 					if ((flags & IJavaElementDelta.F_CHILDREN) != 0) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
@@ -889,24 +890,32 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		this.buildstate = new BuildState();
 		localMonitor
 				.subTask(NLS.bind(BuilderMessages.ApiAnalysisBuilder_initializing_analyzer, currentproject.getName()));
-		cleanupMarkers(this.currentproject);
-		IPluginModelBase currentModel = getCurrentModel();
-		if (currentModel != null) {
-			localMonitor.subTask(NLS.bind(BuilderMessages.building_workspace_profile, currentproject.getName()));
-			localMonitor.split(1);
-			String id = currentModel.getBundleDescription().getSymbolicName();
-			Version version = currentModel.getBundleDescription().getVersion();
-			// Compatibility checks
-			IApiComponent apiComponent = wbaseline.getApiComponent(id, version);
-			if (apiComponent != null) {
-				if (getAnalyzer() instanceof BaseApiAnalyzer) {
-					((BaseApiAnalyzer) getAnalyzer()).checkBaselineMismatch(baseline, wbaseline);
-				}
-				getAnalyzer().analyzeComponent(this.buildstate, null, null, baseline, apiComponent, new BuildContext(),
-						localMonitor.split(1));
-				localMonitor.split(1);
-				createMarkers();
+		boolean markersReplaced = false;
+		try {
+			IPluginModelBase currentModel = getCurrentModel();
+			if (currentModel != null) {
+				localMonitor.subTask(NLS.bind(BuilderMessages.building_workspace_profile, currentproject.getName()));
 				localMonitor.split(1);
+				String id = currentModel.getBundleDescription().getSymbolicName();
+				Version version = currentModel.getBundleDescription().getVersion();
+				// Compatibility checks
+				IApiComponent apiComponent = wbaseline.getApiComponent(id, version);
+				if (apiComponent != null) {
+					if (getAnalyzer() instanceof BaseApiAnalyzer) {
+						((BaseApiAnalyzer) getAnalyzer()).checkBaselineMismatch(baseline, wbaseline);
+					}
+					getAnalyzer().analyzeComponent(this.buildstate, null, null, baseline, apiComponent, new BuildContext(),
+							localMonitor.split(1));
+					localMonitor.split(1);
+					// existing markers are reconciled with the new ones instead of being removed up front
+					createMarkers(this.currentproject);
+					markersReplaced = true;
+					localMonitor.split(1);
+				}
+			}
+		} finally {
+			if (!markersReplaced) {
+				cleanupMarkers(this.currentproject);
 			}
 		}
 	}
@@ -956,11 +965,24 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * running in the framework, no work is done.
 	 */
 	protected void createMarkers() {
+		createMarkers(null);
+	}
+
+	/**
+	 * Creates the markers for the listing of problems added to this reporter.
+	 * If a project is given, all API tools markers previously reported on it
+	 * are reconciled with the new ones instead of being deleted up front, see
+	 * {@link #createMarkersInternally(IApiProblem[], IProject)}.
+	 *
+	 * @param replaced the project whose markers are replaced (full build) or
+	 *            <code>null</code>
+	 */
+	void createMarkers(IProject replaced) {
 		IApiProblem[] problems = getAnalyzer().getProblems();
 		if (isRunningAsJob()) {
-			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems)).schedule();
+			new ApiAnalysisMarkersJob(() -> createMarkersInternally(problems, replaced)).schedule();
 		} else {
-			createMarkersInternally(problems);
+			createMarkersInternally(problems, replaced);
 		}
 	}
 
@@ -970,27 +992,77 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * framework, no work is done.
 	 */
 	protected void createMarkersInternally(IApiProblem[] problems) {
-		try {
-			IResource manifest = Util.getManifestFile(this.currentproject);
-			if (manifest != null) {
-				manifest.deleteMarkers(IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+		createMarkersInternally(problems, null);
+	}
+
+	/**
+	 * Reconciles the markers for the given problems with the existing markers
+	 * in a single workspace operation. Existing markers that are reported again
+	 * are kept, so that only the actual changes produce marker deltas.
+	 *
+	 * @param problems the problems to create markers for
+	 * @param replaced the project whose API tools markers are all replaced
+	 *            (full build) or <code>null</code> if only the project level
+	 *            version, baseline and resolution markers are replaced
+	 */
+	void createMarkersInternally(IApiProblem[] problems, IProject replaced) {
+		ApiMarkerReconciler reconciler = new ApiMarkerReconciler();
+		if (replaced != null) {
+			// markers that are not simply replaced by the reported problems
+			cleanApiUseScanMarkers(replaced);
+			cleanupFatalMarkers(replaced);
+			for (String type : new String[] {
+					IApiMarkerConstants.UNUSED_FILTER_PROBLEM_MARKER,
+					IApiMarkerConstants.API_USAGE_PROBLEM_MARKER,
+					IApiMarkerConstants.COMPATIBILITY_PROBLEM_MARKER,
+					IApiMarkerConstants.SINCE_TAGS_PROBLEM_MARKER,
+					IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER,
+					IApiMarkerConstants.UNSUPPORTED_TAG_PROBLEM_MARKER,
+					IApiMarkerConstants.UNSUPPORTED_ANNOTATION_PROBLEM_MARKER }) {
+				reconciler.replace(replaced, type, false, IResource.DEPTH_INFINITE);
 			}
-			this.currentproject.deleteMarkers(IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
-			this.currentproject.deleteMarkers(IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
-		} catch (CoreException e) {
-			ApiPlugin.log(e);
+			reconciler.replace(replaced, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+			reconciler.replace(replaced, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, true, IResource.DEPTH_ZERO);
+		} else {
+			reconciler.replace(Util.getManifestFile(this.currentproject), IApiMarkerConstants.VERSION_NUMBERING_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+			reconciler.replace(this.currentproject, IApiMarkerConstants.DEFAULT_API_BASELINE_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
+			reconciler.replace(this.currentproject, IApiMarkerConstants.API_COMPONENT_RESOLUTION_PROBLEM_MARKER, false, IResource.DEPTH_ZERO);
 		}
-		String type = null;
+		// severities only depend on the project preferences, look each one up once
+		Map<String, Integer> severities = new HashMap<>();
+		List<IApiProblem> specialProblems = new ArrayList<>();
 		for (IApiProblem problem : problems) {
 			int category = problem.getCategory();
-			type = getProblemTypeFromCategory(category, problem.getKind());
+			String type = getProblemTypeFromCategory(category, problem.getKind());
 			if (type == null) {
 				continue;
 			}
+			if (category == IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM
+					|| (problem.getKind() == IApiProblem.API_BASELINE_MISMATCH && category == IApiProblem.CATEGORY_API_BASELINE)) {
+				// these are merged with existing markers one by one
+				specialProblems.add(problem);
+				continue;
+			}
+			IResource resource = resolveResource(problem);
+			if (resource == null) {
+				continue;
+			}
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiAnalysisBuilder: creating marker for: " + problem.toString()); //$NON-NLS-1$
+			}
+			reconciler.add(resource, type, createMarkerAttributes(category, problem, severities));
+		}
+		try {
+			reconciler.apply();
+		} catch (CoreException e) {
+			ApiPlugin.log(e);
+		}
+		for (IApiProblem problem : specialProblems) {
+			int category = problem.getCategory();
 			if (ApiPlugin.DEBUG_BUILDER) {
 				System.out.println("ApiAnalysisBuilder: creating marker for: " + problem.toString()); //$NON-NLS-1$
 			}
-			createMarkerForProblem(category, type, problem);
+			createMarkerForProblem(category, getProblemTypeFromCategory(category, problem.getKind()), problem, severities);
 		}
 	}
 
@@ -1053,19 +1125,32 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 	 * @param problem the problem to create a marker from
 	 */
 	void createMarkerForProblem(int category, String type, IApiProblem problem) {
+		createMarkerForProblem(category, type, problem, new HashMap<>());
+	}
+
+	/**
+	 * Creates an {@link IMarker} on the resource specified in the problem (via
+	 * its path) with the given problem attributes
+	 *
+	 * @param category the category of the problem
+	 * @param type the marker type to create
+	 * @param problem the problem to create a marker from
+	 * @param severities the cache of severity levels by problem severity id
+	 */
+	private void createMarkerForProblem(int category, String type, IApiProblem problem, Map<String, Integer> severities) {
 		IResource resource = resolveResource(problem);
 		if (resource == null) {
 			return;
 		}
 		try {
+			Map<String, Object> attributes = createMarkerAttributes(category, problem, severities);
 			if (category == IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM) {
 				IMarker[] markers = resource.findMarkers(type, true, IResource.DEPTH_ZERO);
 				for (IMarker marker : markers) {
 					String msg = marker.getAttribute(IMarker.MESSAGE, null);
 					if (msg == null || msg.equalsIgnoreCase(problem.getMessage())) {
 						int markerSeverity = marker.getAttribute(IMarker.SEVERITY, 0);
-						int problemSeverity = ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject);
-						if (markerSeverity == problemSeverity) {
+						if (Integer.valueOf(markerSeverity).equals(attributes.get(IMarker.SEVERITY))) {
 							return; // Marker already exists
 						}
 					} else {
@@ -1080,49 +1165,13 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 				IWorkspaceRoot root = ResourcesPlugin.getWorkspace().getRoot();
 				IMarker[] findMarkers = root.findMarkers(type, false, IResource.DEPTH_ZERO);
 				if (findMarkers.length == 0) {
-					marker = root.createMarker(type);
-				}
-				else {
+					marker = root.createMarker(type, attributes);
+				} else {
 					marker = findMarkers[0];
+					marker.setAttributes(attributes.keySet().toArray(new String[attributes.size()]), attributes.values().toArray());
 				}
 			} else {
-				marker = resource.createMarker(type);
-			}
-
-			int line = problem.getLineNumber();
-			switch (category)
-				{
-				case IApiProblem.CATEGORY_VERSION:
-				case IApiProblem.CATEGORY_API_BASELINE:
-				case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
-				case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
-					break;
-				}
-				default: {
-					line++;
-				}
-			}
-			marker.setAttributes(new String[] {
-					IMarker.MESSAGE, IMarker.SEVERITY, IMarker.LINE_NUMBER,
-					IMarker.CHAR_START, IMarker.CHAR_END, IMarker.SOURCE_ID,
-					IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID }, new Object[] {
-					problem.getMessage(),
-					Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(ApiProblemFactory.getProblemSeverityId(problem), this.currentproject)),
-					Integer.valueOf(line), Integer.valueOf(problem.getCharStart()),
-					Integer.valueOf(problem.getCharEnd()),
-					ApiAnalysisBuilder.SOURCE, Integer.valueOf(problem.getId()) });
-			// add message arguments, if any
-			String[] args = problem.getMessageArguments();
-			if (args.length > 0) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
-			}
-			String typeName = problem.getTypeName();
-			if (typeName != null) {
-				marker.setAttribute(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
-			}
-			// add all other extra arguments, if any
-			if (problem.getExtraMarkerAttributeIds().length > 0) {
-				marker.setAttributes(problem.getExtraMarkerAttributeIds(), problem.getExtraMarkerAttributeValues());
+				marker = resource.createMarker(type, attributes);
 			}
 			if (ApiPlugin.DEBUG_BUILDER) {
 				System.out.println("ApiAnalysisBuilder: Created the marker: " + marker.getId() + " - " + marker.getAttributes().entrySet()); //$NON-NLS-1$ //$NON-NLS-2$
@@ -1133,6 +1182,58 @@ public class ApiAnalysisBuilder extends IncrementalProjectBuilder {
 		}
 	}
 
+	/**
+	 * Builds the complete set of marker attributes for the given problem
+	 *
+	 * @param category the category of the problem
+	 * @param problem the problem to create the marker attributes for
+	 * @param severities the cache of severity levels by problem severity id
+	 * @return the marker attributes
+	 */
+	Map<String, Object> createMarkerAttributes(int category, IApiProblem problem, Map<String, Integer> severities) {
+		int line = problem.getLineNumber();
+		switch (category)
+			{
+			case IApiProblem.CATEGORY_VERSION:
+			case IApiProblem.CATEGORY_API_BASELINE:
+			case IApiProblem.CATEGORY_API_COMPONENT_RESOLUTION:
+			case IApiProblem.CATEGORY_API_USE_SCAN_PROBLEM: {
+				break;
+			}
+			default: {
+				line++;
+			}
+		}
+		Integer severity = severities.computeIfAbsent(ApiProblemFactory.getProblemSeverityId(problem),
+				id -> Integer.valueOf(ApiPlugin.getDefault().getSeverityLevel(id, this.currentproject)));
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put(IMarker.MESSAGE, problem.getMessage());
+		attributes.put(IMarker.SEVERITY, severity);
+		attributes.put(IMarker.LINE_NUMBER, Integer.valueOf(line));
+		attributes.put(IMarker.CHAR_START, Integer.valueOf(problem.getCharStart()));
+		attributes.put(IMarker.CHAR_END, Integer.valueOf(problem.getCharEnd()));
+		attributes.put(IMarker.SOURCE_ID, ApiAnalysisBuilder.SOURCE);
+		attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_ID, Integer.valueOf(problem.getId()));
+		// add message arguments, if any
+		String[] args = problem.getMessageArguments();
+		if (args.length > 0) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_MESSAGE_ARGUMENTS, createArgAttribute(args));
+		}
+		String typeName = problem.getTypeName();
+		if (typeName != null) {
+			attributes.put(IApiMarkerConstants.MARKER_ATTR_PROBLEM_TYPE_NAME, typeName);
+		}
+		// add all other extra arguments, if any
+		String[] ids = problem.getExtraMarkerAttributeIds();
+		Object[] values = problem.getExtraMarkerAttributeValues();
+		for (int i = 0; i < ids.length; i++) {
+			if (values[i] != null) {
+				attributes.put(ids[i], values[i]);
+			}
+		}
+		return attributes;
+	}
+
 	/**
 	 * Resolves the resource from the path in the problem, returns
 	 * <code>null</code> in the following cases:
@@ -0,0 +1,113 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.builder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Collects the markers to report for a set of API problems and applies them to
+ * the workspace in a single operation.
+ * <p>
+ * Markers of a type registered with {@link #replace(IResource, String, boolean, int)}
+ * are reconciled against the markers already present in that scope: markers
+ * that are reported again (same resource, type and attributes) are left
+ * untouched, the remaining existing markers are deleted and only new markers
+ * are created. Markers of any other type are simply created.
+ * </p>
+ */
+class ApiMarkerReconciler {
+
+	/**
+	 * Identifies a marker by its resource, type and attributes
+	 */
+	record MarkerKey(IPath path, String type, Map<String, Object> attributes) {
+	}
+
+	private record Scope(IResource resource, String type, boolean includeSubtypes, int depth) {
+	}
+
+	private final List<Scope> scopes = new ArrayList<>();
+	private final Map<MarkerKey, IResource> reported = new LinkedHashMap<>();
+
+	/**
+	 * Registers a scope whose existing markers of the given type are replaced
+	 * by the reported ones
+	 */
+	void replace(IResource resource, String type, boolean includeSubtypes, int depth) {
+		if (resource != null && resource.isAccessible()) {
+			scopes.add(new Scope(resource, type, includeSubtypes, depth));
+		}
+	}
+
+	/**
+	 * Adds a marker to report. Duplicates of an already reported marker are
+	 * ignored.
+	 */
+	void add(IResource resource, String type, Map<String, Object> attributes) {
+		reported.putIfAbsent(new MarkerKey(resource.getFullPath(), type, attributes), resource);
+	}
+
+	/**
+	 * Deletes the outdated markers and creates the new ones in a single
+	 * workspace operation
+	 */
+	void apply() throws CoreException {
+		if (scopes.isEmpty() && reported.isEmpty()) {
+			return;
+		}
+		IWorkspaceRunnable runnable = monitor -> {
+			Map<MarkerKey, IResource> toCreate = new LinkedHashMap<>(reported);
+			List<IMarker> toDelete = new ArrayList<>();
+			for (Scope scope : scopes) {
+				if (!scope.resource().isAccessible()) {
+					continue;
+				}
+				for (IMarker marker : scope.resource().findMarkers(scope.type(), scope.includeSubtypes(), scope.depth())) {
+					MarkerKey key = new MarkerKey(marker.getResource().getFullPath(), marker.getType(), new HashMap<>(marker.getAttributes()));
+					if (toCreate.remove(key) == null) {
+						toDelete.add(marker);
+					}
+				}
+			}
+			if (!toDelete.isEmpty()) {
+				ResourcesPlugin.getWorkspace().deleteMarkers(toDelete.toArray(new IMarker[toDelete.size()]));
+			}
+			for (Map.Entry<MarkerKey, IResource> entry : toCreate.entrySet()) {
+				IResource resource = entry.getValue();
+				if (resource.isAccessible()) {
+					resource.createMarker(entry.getKey().type(), entry.getKey().attributes());
+				}
+			}
+			if (ApiPlugin.DEBUG_BUILDER) {
+				System.out.println("ApiMarkerReconciler: reported " + reported.size() + " markers, kept " //$NON-NLS-1$ //$NON-NLS-2$
+						+ (reported.size() - toCreate.size()) + ", created " + toCreate.size() + ", deleted " //$NON-NLS-1$ //$NON-NLS-2$
+						+ toDelete.size());
+			}
+		};
+		ResourcesPlugin.getWorkspace().run(runnable, null, IWorkspace.AVOID_UPDATE, null);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -66,8 +67,11 @@ import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTNode;
 import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.internal.core.BinaryType;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
@@ -180,6 +184,31 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 */
 	private boolean fContinueOnResolutionError = false;
 
+	/**
+	 * The maximum number of ASTs kept in {@link #fAstCache}
+	 */
+	private static final int AST_CACHE_SIZE = 16;
+
+	/**
+	 * The ASTs created during the current analysis, shared by the @since tag,
+	 * Javadoc tag and annotation checks. The least recently used AST is
+	 * evicted once more than {@link #AST_CACHE_SIZE} are cached.
+	 */
+	private final Map<ITypeRoot, CompilationUnit> fAstCache = new LinkedHashMap<>(AST_CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<ITypeRoot, CompilationUnit> eldest) {
+			return size() > AST_CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * The number of AST requests and actual parses in the current analysis
+	 */
+	private int fAstRequests = 0;
+	private int fAstParses = 0;
+
 	/**
 	 * Constructs an API analyzer
 	 */
@@ -189,6 +218,9 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	@Override
 	public void analyzeComponent(final BuildState state, final IApiFilterStore filterStore, final Properties preferences, final IApiBaseline baseline, final IApiComponent component, final IBuildContext context, IProgressMonitor monitor) {
 		SubMonitor localMonitor = SubMonitor.convert(monitor, BuilderMessages.BaseApiAnalyzer_analyzing_api, 6);
+		fAstCache.clear();
+		fAstRequests = 0;
+		fAstParses = 0;
 		try {
 			this.fJavaProject = getJavaProject(component);
 			this.fFilterStore = filterStore;
@@ -310,6 +342,12 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 			if (ApiPlugin.DEBUG_API_ANALYZER) {
 				System.out.println("Trapped OperationCanceledException"); //$NON-NLS-1$
 			}
+		} finally {
+			if (ApiPlugin.DEBUG_BUILDER && fAstRequests > 0) {
+				System.out.println("BaseApiAnalyzer: parsed " + fAstParses + " ASTs for " + fAstRequests + " requests in " //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						+ component.getSymbolicName());
+			}
+			fAstCache.clear();
 		}
 	}
 
@@ -888,6 +926,43 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		return null;
 	}
 
+	/**
+	 * Returns the AST for the given {@link ITypeRoot}, sharing it with the
+	 * other checks of the current analysis. Method bodies are not part of the
+	 * shared AST, so if the given offset lies within a method body a dedicated
+	 * AST focused on that offset is created.
+	 */
+	private CompilationUnit getAST(ITypeRoot root, int offset) {
+		if (fJavaProject == null) {
+			return null;
+		}
+		fAstRequests++;
+		CompilationUnit ast = fAstCache.get(root);
+		if (ast == null) {
+			ast = createAST(root, 0);
+			fAstCache.put(root, ast);
+		}
+		if (offset > 0 && isInMethodBody(ast, offset)) {
+			return createAST(root, offset);
+		}
+		return ast;
+	}
+
+	/**
+	 * @return <code>true</code> if the given offset lies within a block of the
+	 *         given AST, i.e. within a method body or initializer
+	 */
+	private static boolean isInMethodBody(CompilationUnit ast, int offset) {
+		ASTNode node = NodeFinder.perform(ast, offset, 0);
+		while (node != null) {
+			if (node instanceof Block) {
+				return true;
+			}
+			node = node.getParent();
+		}
+		return false;
+	}
+
 	/**
 	 * Creates and AST for the given {@link ITypeRoot} at the given offset
 	 */
@@ -895,6 +970,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		if (fJavaProject == null) {
 			return null;
 		}
+		fAstParses++;
 		ASTParser parser = ASTParser.newParser(AST.getJLSLatest());
 		parser.setFocalPosition(offset);
 		parser.setResolveBindings(false);
@@ -981,6 +1057,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		if (fBuildState != null) {
 			fBuildState = null;
 		}
+		fAstCache.clear();
 	}
 
 	/**
@@ -1209,7 +1286,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 	 * Processes the given {@link ICompilationUnit} for invalid tags
 	 */
 	private void processType(ICompilationUnit cunit, boolean tags, boolean annotations) {
-		CompilationUnit comp = createAST(cunit, 0);
+		CompilationUnit comp = getAST(cunit, 0);
 		if (comp == null) {
 			return;
 		}
@@ -1574,7 +1651,7 @@ public class BaseApiAnalyzer implements IApiAnalyzer {
 		}
 		try {
 			int offset = nameRange.getOffset();
-			CompilationUnit comp = createAST(cunit, offset);
+			CompilationUnit comp = getAST(cunit, offset);
 			if (comp == null) {
 				return;
 			}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -162,6 +162,13 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private volatile Set<String> fSystemPackageNames;
 
+	/**
+	 * Names of all packages exported by any bundle of the state, built once
+	 * the components are added and reset whenever the components change. A
+	 * package not in this set can't be visible through the state.
+	 */
+	private volatile Set<String> fExportedPackageNames;
+
 	/**
 	 * The VM install this baseline is bound to for system libraries or
 	 * <code>null</code>. Only used in the IDE when OSGi is running.
@@ -313,6 +320,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	private void clearComponentsCache() {
 		fComponentsProvidingPackageCache.clear();
+		fExportedPackageNames = null;
 	}
 
 	/**
@@ -324,6 +332,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 
 		IApiComponent comp = fComponentsById.put(component.getSymbolicName(), component);
+		clearComponentsCache();
 		// if more than 1 components, store all of them
 		if (comp != null) {
 			Set<IApiComponent> allComponents = fAllComponentsById.computeIfAbsent(component.getSymbolicName(),
@@ -367,6 +376,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 		resolveSystemLibrary(ees);
 		getState().resolve();
+		clearComponentsCache();
 	}
 
 	/**
@@ -529,7 +539,8 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		Map<IApiComponent, IApiComponent[]> componentsForPackage = fComponentsProvidingPackageCache
 				.computeIfAbsent(packageName, x -> new ConcurrentHashMap<>(8));
 		IApiComponent[] cachedComponents = componentsForPackage.get(sourceComponent);
-		if (cachedComponents != null && cachedComponents.length > 0) {
+		if (cachedComponents != null) {
+			// also answers packages that could not be resolved before
 			return cachedComponents;
 		}
 
@@ -558,9 +569,6 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		if (cachedComponents == null) {
 			cachedComponents = EMPTY_COMPONENTS;
 		}
-		if (cachedComponents.length == 0) {
-			return EMPTY_COMPONENTS;
-		}
 		componentsForPackage.put(sourceComponent, cachedComponents);
 		return cachedComponents;
 	}
@@ -576,7 +584,10 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 			BundleDescription bundle = ((BundleComponent) component).getBundleDescription();
 			if (bundle != null) {
 				StateHelper helper = getState().getStateHelper();
-				ExportPackageDescription[] visiblePackages = helper.getVisiblePackages(bundle);
+				// only compute the visible packages if anyone exports the package at all
+				ExportPackageDescription[] visiblePackages = isExportedPackage(packageName)
+						? helper.getVisiblePackages(bundle)
+						: new ExportPackageDescription[0];
 				for (ExportPackageDescription pkg : visiblePackages) {
 					String pkgName = pkg.getName();
 					if (pkgName.equals(".")) { //$NON-NLS-1$
@@ -612,6 +623,32 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 		}
 	}
 
+	/**
+	 * Returns whether the specified package is exported by any bundle of the
+	 * state.
+	 *
+	 * @param packageName package name
+	 * @return whether the specified package is exported by any bundle
+	 */
+	private boolean isExportedPackage(String packageName) {
+		Set<String> exportedPackageNames = fExportedPackageNames;
+		if (exportedPackageNames == null) {
+			synchronized (this) {
+				ExportPackageDescription[] exportedPackages = getState().getExportedPackages();
+				exportedPackageNames = new HashSet<>(exportedPackages.length);
+				for (ExportPackageDescription exportedPackage : exportedPackages) {
+					String pkgName = exportedPackage.getName();
+					if (pkgName.equals(".")) { //$NON-NLS-1$
+						pkgName = Util.DEFAULT_PACKAGE_NAME;
+					}
+					exportedPackageNames.add(pkgName);
+				}
+				fExportedPackageNames = exportedPackageNames;
+			}
+		}
+		return exportedPackageNames.contains(packageName);
+	}
+
 	/**
 	 * Returns whether the specified package is supplied by the system library.
 	 *
@@ -893,6 +930,7 @@ public class ApiBaseline extends ApiElement implements IApiBaseline, IVMInstallC
 	 */
 	public void clearPackage(String packageName) {
 		fComponentsProvidingPackageCache.remove(packageName);
+		fExportedPackageNames = null;
 	}
 
 	@Override
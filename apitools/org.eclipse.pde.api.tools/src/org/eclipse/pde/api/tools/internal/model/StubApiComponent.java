@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -45,7 +45,7 @@ public class StubApiComponent extends SystemLibraryApiComponent {
 	private static final String STUB_PATH = "/org/eclipse/pde/api/tools/internal/api_stubs/"; //$NON-NLS-1$
 	private static Map<String, IApiComponent> AllSystemLibraryApiComponents;
 
-	public static IApiComponent getStubApiComponent(int eeValue) {
+	public static synchronized IApiComponent getStubApiComponent(int eeValue) {
 		if (AllSystemLibraryApiComponents == null) {
 			AllSystemLibraryApiComponents = new LinkedHashMap<>();
 		}
@@ -186,7 +186,7 @@ public class StubApiComponent extends SystemLibraryApiComponent {
 		return false;
 	}
 
-	public static void disposeAllCaches() {
+	public static synchronized void disposeAllCaches() {
 		if (AllSystemLibraryApiComponents != null) {
 			for (IApiComponent apiComponent : AllSystemLibraryApiComponents.values()) {
 				apiComponent.dispose();
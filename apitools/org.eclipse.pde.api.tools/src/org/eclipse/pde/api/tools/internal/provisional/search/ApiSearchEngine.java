@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.MultiStatus;
+import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.api.tools.internal.AntFilterStore;
@@ -235,6 +244,30 @@ public final class ApiSearchEngine {
 	 * @throws CoreException if the search fails
 	 */
 	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor) throws CoreException {
+		search(baseline, requestor, reporter, monitor, 1);
+	}
+
+	/**
+	 * Searches for all of the use of API or internal code from the given
+	 * {@link IApiComponent} within the given {@link IApiBaseline}, searching up
+	 * to the given number of elements of the scope at the same time.
+	 * <p>
+	 * Each thread searches with its own copy of the requestor, see
+	 * {@link IApiSearchRequestor#copy()}. The elements are searched one after
+	 * the other if the requestor can not be copied. The reporter is never
+	 * called concurrently.
+	 * </p>
+	 *
+	 * @param baseline the baseline to search within
+	 * @param requestor the requestor to use for the search
+	 * @param reporter the reporter to use when reporting any search results to
+	 *            the user
+	 * @param monitor the monitor to report progress to
+	 * @param threads the maximum number of elements to search at the same time
+	 * @throws CoreException if the search fails
+	 * @since 1.3.800
+	 */
+	public void search(IApiBaseline baseline, IApiSearchRequestor requestor, IApiSearchReporter reporter, IProgressMonitor monitor, int threads) throws CoreException {
 		if (baseline == null || reporter == null || requestor == null) {
 			return;
 		}
@@ -242,11 +275,52 @@ public final class ApiSearchEngine {
 		if (scope == null) {
 			return;
 		}
-		AntFilterStore.filteredAPIProblems.clear();
+		AntFilterStore.clearFilteredProblems();
 		fRequestorContext = computeContext(requestor);
 		IApiElement[] scopeelements = scope.getApiElements();
 		SubMonitor localmonitor = SubMonitor.convert(monitor, MessageFormat.format(SearchMessages.ApiSearchEngine_searching_projects, fRequestorContext), scopeelements.length * 2 + 1);
 		long start = System.currentTimeMillis();
+		MultiStatus mstatus;
+		BlockingQueue<IApiSearchRequestor> requestors = getRequestors(requestor, Math.min(threads, scopeelements.length));
+		if (requestors.size() > 1) {
+			mstatus = searchParallel(requestors, scopeelements, new SerialReporter(reporter), localmonitor);
+		} else {
+			mstatus = searchSequential(requestor, scopeelements, reporter, localmonitor);
+		}
+		if (localmonitor.isCanceled()) {
+			return;
+		}
+		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+		}
+		if (mstatus != null) {
+			throw new CoreException(mstatus);
+		}
+	}
+
+	/**
+	 * Returns the given requestor and as many copies as can be made of it, up
+	 * to the given number of requestors in total
+	 */
+	private BlockingQueue<IApiSearchRequestor> getRequestors(IApiSearchRequestor requestor, int count) {
+		BlockingQueue<IApiSearchRequestor> requestors = new ArrayBlockingQueue<>(Math.max(1, count));
+		requestors.add(requestor);
+		while (requestors.size() < count) {
+			IApiSearchRequestor copy = requestor.copy();
+			if (copy == null) {
+				break;
+			}
+			requestors.add(copy);
+		}
+		return requestors;
+	}
+
+	/**
+	 * Searches the given elements one after the other
+	 *
+	 * @return the status of the failed searches or <code>null</code>
+	 */
+	private MultiStatus searchSequential(IApiSearchRequestor requestor, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
 		long loopstart = 0;
 		String taskname = null;
 		MultiStatus mstatus = null;
@@ -263,7 +337,7 @@ public final class ApiSearchEngine {
 				localmonitor.setTaskName(taskname);
 				if (localmonitor.isCanceled()) {
 					reporter.reportResults(scopeelements[i], NO_REFERENCES);
-					return;
+					return mstatus;
 				}
 				localmonitor.worked(1);
 				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
@@ -271,17 +345,140 @@ public final class ApiSearchEngine {
 							+ (System.currentTimeMillis() - loopstart) + " ms"); //$NON-NLS-1$
 				}
 			} catch (CoreException ce) {
-				if (mstatus == null) {
-					mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
-				}
-				mstatus.add(Status.error(ce.getMessage(), ce));
+				mstatus = addError(mstatus, ce);
 			}
 		}
+		return mstatus;
+	}
+
+	/**
+	 * Searches the given elements with one thread per requestor. Each element
+	 * is searched with a requestor that no other thread uses meanwhile.
+	 *
+	 * @return the status of the failed searches or <code>null</code>
+	 */
+	private MultiStatus searchParallel(BlockingQueue<IApiSearchRequestor> requestors, IApiElement[] scopeelements, IApiSearchReporter reporter, SubMonitor localmonitor) {
 		if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
-			System.out.println("Total Search Time: " + ((System.currentTimeMillis() - start) / 1000) + " seconds"); //$NON-NLS-1$//$NON-NLS-2$
+			System.out.println("Searching " + scopeelements.length + " elements with " + requestors.size() + " threads"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 		}
-		if (mstatus != null) {
-			throw new CoreException(mstatus);
+		// set when the search stops early, so that running workers stop as well
+		AtomicBoolean stopped = new AtomicBoolean();
+		// the workers only check for cancellation, progress is reported here
+		IProgressMonitor workermonitor = new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return stopped.get() || localmonitor.isCanceled();
+			}
+		};
+		MultiStatus mstatus = null;
+		ExecutorService executor = Executors.newFixedThreadPool(requestors.size());
+		try {
+			List<Future<?>> futures = new ArrayList<>(scopeelements.length);
+			for (IApiElement element : scopeelements) {
+				futures.add(executor.submit(() -> {
+					if (workermonitor.isCanceled()) {
+						return null;
+					}
+					IApiSearchRequestor requestor = requestors.take();
+					try {
+						if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+							System.out.println("Searching " + element.getApiComponent().getSymbolicName() + "..."); //$NON-NLS-1$ //$NON-NLS-2$
+						}
+						searchReferences(requestor, element, reporter, workermonitor);
+					} finally {
+						requestors.add(requestor);
+					}
+					return null;
+				}));
+			}
+			for (int i = 0; i < scopeelements.length; i++) {
+				localmonitor.setTaskName(MessageFormat.format(SearchMessages.ApiSearchEngine_searching_project,
+						scopeelements[i].getApiComponent().getSymbolicName(), fRequestorContext));
+				try {
+					futures.get(i).get();
+				} catch (ExecutionException e) {
+					Throwable cause = e.getCause();
+					if (cause instanceof CoreException ce) {
+						mstatus = addError(mstatus, ce);
+					} else if (cause instanceof RuntimeException runtimeException) {
+						throw runtimeException;
+					} else if (cause instanceof Error error) {
+						throw error;
+					}
+				}
+				if (localmonitor.isCanceled()) {
+					return mstatus;
+				}
+				localmonitor.worked(2);
+				if (ApiPlugin.DEBUG_SEARCH_ENGINE) {
+					System.out.println(Math.round((((float) (i + 1)) / scopeelements.length) * 100) + "% done"); //$NON-NLS-1$
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			stopped.set(true);
+			executor.shutdownNow();
+			awaitTermination(executor);
+		}
+		return mstatus;
+	}
+
+	/**
+	 * Waits until the workers have stopped, so that none of them still calls
+	 * the requestor or the reporter once the search returned or failed
+	 */
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static MultiStatus addError(MultiStatus mstatus, CoreException ce) {
+		if (mstatus == null) {
+			mstatus = new MultiStatus(ApiPlugin.PLUGIN_ID, IStatus.ERROR, null, null);
+		}
+		mstatus.add(Status.error(ce.getMessage(), ce));
+		return mstatus;
+	}
+
+	/**
+	 * Reporter that serializes the results reported from several threads
+	 */
+	private static class SerialReporter implements IApiSearchReporter {
+
+		private final IApiSearchReporter reporter;
+
+		SerialReporter(IApiSearchReporter reporter) {
+			this.reporter = reporter;
+		}
+
+		@Override
+		public synchronized void reportResults(IApiElement element, IReference[] references) {
+			reporter.reportResults(element, references);
+		}
+
+		@Override
+		public synchronized void reportNotSearched(IApiElement[] elements) {
+			reporter.reportNotSearched(elements);
+		}
+
+		@Override
+		public synchronized void reportMetadata(IMetadata data) {
+			reporter.reportMetadata(data);
+		}
+
+		@Override
+		public synchronized void reportCounts() {
+			reporter.reportCounts();
 		}
 	}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2011 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,11 @@ public interface IApiSearchReporter {
 
 	/**
 	 * Reports the given results to the user (implementation independent)
+	 * <p>
+	 * The {@link ApiSearchEngine} never calls this method concurrently. When
+	 * several elements are searched in parallel, the results of the elements
+	 * may be reported interleaved, in any order.
+	 * </p>
 	 *
 	 * @param element the element that was searched
 	 * @param references the raw list of references from the
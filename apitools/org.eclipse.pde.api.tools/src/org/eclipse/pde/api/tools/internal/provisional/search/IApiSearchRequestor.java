@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2010 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -131,4 +131,21 @@ public interface IApiSearchRequestor {
 	 *         otherwise
 	 */
 	public boolean includesIllegalUse();
+
+	/**
+	 * Returns a new requestor with the same settings and scope as this
+	 * requestor, so that the {@link ApiSearchEngine} can search several
+	 * elements of the scope at the same time, each with its own requestor.
+	 * <p>
+	 * By default <code>null</code> is returned, and the elements of the scope
+	 * are searched one after the other with this requestor.
+	 * </p>
+	 *
+	 * @return a new requestor or <code>null</code> if the search can not be
+	 *         run in parallel
+	 * @since 1.3.800
+	 */
+	default IApiSearchRequestor copy() {
+		return null;
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 IBM Corporation and others.
+ * Copyright (c) 2010, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -416,17 +416,23 @@ public class ConsumerReportConvertor extends UseReportConverter {
 		ListConsumersVisitor listVisitor = new ListConsumersVisitor();
 		UseScanParser lparser = new UseScanParser();
 		lparser.parse(getXmlLocation(), subMon.split(5), listVisitor);
-		List<Consumer> consumerReports = new ArrayList<>();
-
-		ConsumerReportVisitor visitor = null;
-		for (IComponentDescriptor consumer : listVisitor.consumers) {
-			visitor = new ConsumerReportVisitor(consumer);
-			lparser.parse(getXmlLocation(), null, visitor);
-			if (visitor.consumer.counts.getTotalRefCount() > 0) {
-				consumerReports.add(visitor.consumer);
+		List<Consumer> consumerReports = Collections.synchronizedList(new ArrayList<>());
+
+		// every consumer needs its own pass over the scan, run the passes
+		// in parallel - the index page sorts the consumers
+		try (ReportPageWriter pages = new ReportPageWriter()) {
+			for (IComponentDescriptor consumer : listVisitor.consumers) {
+				pages.submit(() -> {
+					ConsumerReportVisitor visitor = new ConsumerReportVisitor(consumer);
+					new UseScanParser().parse(getXmlLocation(), null, visitor);
+					if (visitor.consumer.counts.getTotalRefCount() > 0) {
+						consumerReports.add(visitor.consumer);
+					}
+				});
 			}
+			pages.await();
 		}
-		return consumerReports;
+		return new ArrayList<>(consumerReports);
 	}
 
 	protected String getConsumerTitle(String bundle) {
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+
+/**
+ * Writes the HTML pages of a use report conversion on background threads
+ * while the use scan is still being parsed.
+ * <p>
+ * At most a fixed number of pages are pending at any time. Submitting a page
+ * blocks until a slot is free, so the memory used by the collected report data
+ * stays bounded no matter how large the use scan is.
+ * </p>
+ * <p>
+ * The first failure of a page is thrown by {@link #await()}, so pages that
+ * should only log their failures have to catch them.
+ * </p>
+ */
+class ReportPageWriter implements AutoCloseable {
+
+	/**
+	 * Writes one page or set of pages
+	 */
+	@FunctionalInterface
+	interface Page {
+		void write() throws Exception;
+	}
+
+	private final ExecutorService executor;
+	private final Semaphore slots;
+	private final int slotCount;
+	private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+	ReportPageWriter() {
+		int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+		AtomicInteger count = new AtomicInteger();
+		this.executor = Executors.newFixedThreadPool(threads, r -> {
+			Thread thread = new Thread(r, "API use report writer " + count.incrementAndGet()); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.slotCount = threads * 2;
+		this.slots = new Semaphore(slotCount);
+	}
+
+	/**
+	 * Schedules the given page to be written, waiting for a free slot if too
+	 * many pages are pending. Failures are thrown by {@link #await()}.
+	 */
+	void submit(Page page) throws InterruptedException {
+		slots.acquire();
+		try {
+			executor.execute(() -> {
+				try {
+					page.write();
+				} catch (Exception e) {
+					if (!failure.compareAndSet(null, e)) {
+						ApiPlugin.log(e);
+					}
+				} finally {
+					slots.release();
+				}
+			});
+		} catch (RuntimeException e) {
+			slots.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Waits until all submitted pages have been written
+	 *
+	 * @throws Exception the first failure of the pages, the later ones are
+	 *             logged
+	 */
+	void await() throws Exception {
+		slots.acquire(slotCount);
+		slots.release(slotCount);
+		Exception e = failure.getAndSet(null);
+		if (e != null) {
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2018 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -90,6 +90,11 @@ public class UseReportConverter extends HTMLConvertor {
 		Member currentmember = null;
 		Map<IReferenceTypeDescriptor, Type> keys = new HashMap<>();
 		List<Type> referees = new ArrayList<>();
+		final ReportPageWriter pages;
+
+		Visitor(ReportPageWriter pages) {
+			this.pages = pages;
+		}
 
 		/**
 		 * Returns if the reference should be reported or not
@@ -133,26 +138,41 @@ public class UseReportConverter extends HTMLConvertor {
 
 		@Override
 		public void endVisitComponent(IComponentDescriptor target) {
+			final Report report = this.currentreport;
 			try {
-				long start = 0;
-				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
-					System.out.println("Writing report for bundle: " + target.getId()); //$NON-NLS-1$
-					start = System.currentTimeMillis();
-				}
-				if (this.currentreport.counts.getTotalRefCount() > 0) {
-					writeReferencedMemberPage(this.currentreport, this.referees);
+				if (report.counts.getTotalRefCount() > 0) {
+					// the pages of the component are written in the
+					// background while the next component is parsed
+					final List<Type> refs = new ArrayList<>(this.referees);
+					this.pages.submit(() -> {
+						try {
+							long start = 0;
+							if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+								System.out.println("Writing report for bundle: " + target.getId()); //$NON-NLS-1$
+								start = System.currentTimeMillis();
+							}
+							writeReferencedMemberPage(report, refs);
+							if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
+								System.out.println("done " + target.getId() + " in: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+							}
+						} catch (Exception e) {
+							// a page that fails does not stop the conversion
+							ApiPlugin.log(e);
+						} finally {
+							// clear any children as we have written them out -
+							// keep the report object to write a sorted index
+							// page
+							report.children.clear();
+						}
+					});
 				} else {
-					this.reports.remove(this.currentreport);
+					this.reports.remove(report);
+					report.children.clear();
 				}
-				if (ApiPlugin.DEBUG_USE_REPORT_CONVERTER) {
-					System.out.println("done in: " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
-				}
-			} catch (Exception e) {
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
 				ApiPlugin.log(e);
 			} finally {
-				// clear any children as we have written them out - keep the
-				// report object to write a sorted index page
-				this.currentreport.children.clear();
 				this.keys.clear();
 				this.referees.clear();
 			}
@@ -708,9 +728,15 @@ public class UseReportConverter extends HTMLConvertor {
 
 	protected List<?> parse(IProgressMonitor monitor) throws Exception {
 		UseScanParser lparser = new UseScanParser();
-		Visitor convertor = new Visitor();
-		lparser.parse(getXmlLocation(), monitor, convertor);
-		return convertor.reports;
+		try (ReportPageWriter pages = new ReportPageWriter()) {
+			Visitor convertor = new Visitor(pages);
+			try {
+				lparser.parse(getXmlLocation(), monitor, convertor);
+			} finally {
+				pages.await();
+			}
+			return convertor.reports;
+		}
 	}
 
 	/**
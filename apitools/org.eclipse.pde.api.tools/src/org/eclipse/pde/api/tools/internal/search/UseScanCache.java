@@ -0,0 +1,286 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.api.tools.internal.search;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.eclipse.pde.api.tools.internal.provisional.ApiPlugin;
+import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
+import org.eclipse.pde.api.tools.internal.util.Util;
+
+/**
+ * Cache of the use scan results of each component of a search scope, so that a
+ * repeated use scan only has to search the components that changed.
+ * <p>
+ * The cache keeps a copy of the XML files written by the
+ * {@link XmlSearchReporter} for the references from each component, along with
+ * their counts. An entry is reused if the checksum of the component archive or
+ * folder did not change. The entries are kept in a folder per search context,
+ * which is identified by the search settings and the checksums of the
+ * components that references are reported to, as the references found in a
+ * component depend on them as well.
+ * </p>
+ * <p>
+ * The layout of the cache is:
+ * </p>
+ *
+ * <pre>
+ * cache location
+ *  |
+ *  +-- context checksum
+ *         |
+ *         +-- referencing component id (version)
+ *                |
+ *                +-- stamp
+ *                +-- references
+ *                       |
+ *                       +-- referenced component id (version)
+ *                              |
+ *                              +-- visibility
+ *                                     |
+ *                                     +-- type_references.xml, ...
+ * </pre>
+ */
+public class UseScanCache {
+
+	private static final String STAMP_FILE = "stamp"; //$NON-NLS-1$
+	private static final String REFERENCES_FOLDER = "references"; //$NON-NLS-1$
+
+	private final File fLocation;
+	private final File fReportLocation;
+	private final boolean fDebug;
+	private final Map<IApiComponent, String> fChecksums = new HashMap<>();
+	private File fContextLocation = null;
+
+	/**
+	 * Constructor
+	 *
+	 * @param location the absolute path in the local file system to the folder
+	 *            to keep the cache in
+	 * @param reportLocation the absolute path in the local file system to the
+	 *            folder the {@link XmlSearchReporter} writes the reports to
+	 * @param debug if debugging infos should be written out to the console
+	 */
+	public UseScanCache(String location, String reportLocation, boolean debug) {
+		fLocation = new File(location);
+		fReportLocation = new File(reportLocation);
+		fDebug = debug;
+	}
+
+	/**
+	 * Sets the context of the search the results are cached for. Entries of
+	 * other contexts are not reused.
+	 *
+	 * @param settings a description of the search settings
+	 * @param referencedComponents the components references are reported to
+	 */
+	public void setContext(String settings, Collection<IApiComponent> referencedComponents) {
+		StringBuilder context = new StringBuilder(settings);
+		for (IApiComponent component : referencedComponents) {
+			context.append('\n').append(component.getSymbolicName()).append(' ').append(component.getVersion());
+			context.append(' ').append(getChecksum(component));
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			byte[] hash = digest.digest(context.toString().getBytes(StandardCharsets.UTF_8));
+			fContextLocation = new File(fLocation, HexFormat.of().formatHex(hash));
+		} catch (NoSuchAlgorithmException e) {
+			ApiPlugin.log(e);
+			fContextLocation = null;
+		}
+	}
+
+	/**
+	 * Restores the cached results of the given component into the report
+	 * location, if the component did not change since they were stored.
+	 *
+	 * @param component the component of the search scope
+	 * @param reporter the reporter to add the counts of the references to
+	 * @return <code>true</code> if the results were restored and the component
+	 *         does not need to be searched, <code>false</code> otherwise
+	 */
+	public boolean restore(IApiComponent component, XmlSearchReporter reporter) {
+		String checksum = getChecksum(component);
+		if (fContextLocation == null || checksum == null) {
+			return false;
+		}
+		String id = reporter.getId(component);
+		File entry = new File(fContextLocation, id);
+		File stampFile = new File(entry, STAMP_FILE);
+		if (!stampFile.isFile()) {
+			return false;
+		}
+		try {
+			List<String> stamp = Files.readAllLines(stampFile.toPath(), StandardCharsets.UTF_8);
+			if (stamp.size() != 5 || !checksum.equals(stamp.get(0))) {
+				return false;
+			}
+			int[] counts = new int[4];
+			for (int i = 0; i < counts.length; i++) {
+				counts[i] = Integer.parseInt(stamp.get(i + 1));
+			}
+			File[] referees = new File(entry, REFERENCES_FOLDER).listFiles(File::isDirectory);
+			if (referees != null) {
+				for (File referee : referees) {
+					copyTree(referee.toPath(), new File(new File(fReportLocation, referee.getName()), id).toPath());
+				}
+			}
+			reporter.addCounts(counts);
+		} catch (IOException | NumberFormatException e) {
+			ApiPlugin.log("Failed to restore the use scan results of " + id + " from " + entry, e); //$NON-NLS-1$ //$NON-NLS-2$
+			// do not leave partial results behind for the search
+			deleteReports(id);
+			return false;
+		}
+		if (fDebug) {
+			System.out.println("Restored the use scan results of " + id + " from " + entry); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		return true;
+	}
+
+	/**
+	 * Stores the results of the given component that were written to the
+	 * report location by the given reporter
+	 *
+	 * @param component the component of the search scope that was searched
+	 * @param reporter the reporter that reported the references
+	 */
+	public void store(IApiComponent component, XmlSearchReporter reporter) {
+		String checksum = getChecksum(component);
+		if (fContextLocation == null || checksum == null) {
+			return;
+		}
+		String id = reporter.getId(component);
+		File entry = new File(fContextLocation, id);
+		try {
+			if (entry.exists() && !Util.delete(entry)) {
+				return;
+			}
+			File references = new File(entry, REFERENCES_FOLDER);
+			references.mkdirs();
+			File[] referees = fReportLocation.listFiles(File::isDirectory);
+			if (referees != null) {
+				for (File referee : referees) {
+					File reports = new File(referee, id);
+					if (reports.isDirectory()) {
+						copyTree(reports.toPath(), new File(references, referee.getName()).toPath());
+					}
+				}
+			}
+			StringBuilder stamp = new StringBuilder(checksum);
+			for (int count : reporter.getCounts(component)) {
+				stamp.append('\n').append(count);
+			}
+			// written last, so that incomplete entries are never reused
+			Files.writeString(new File(entry, STAMP_FILE).toPath(), stamp, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			ApiPlugin.log("Failed to store the use scan results of " + id + " into " + entry, e); //$NON-NLS-1$ //$NON-NLS-2$
+			Util.delete(entry);
+		}
+	}
+
+	/**
+	 * Returns the checksum of the archive or folder of the given component
+	 *
+	 * @return the checksum or <code>null</code> if it can not be computed
+	 */
+	private String getChecksum(IApiComponent component) {
+		return fChecksums.computeIfAbsent(component, c -> {
+			String location = c.getLocation();
+			return location == null ? null : getChecksum(new File(location));
+		});
+	}
+
+	/**
+	 * Returns the checksum of the content of the given file, or of the names
+	 * and content of all files in the given folder
+	 *
+	 * @param file the file or folder
+	 * @return the checksum or <code>null</code> if the file does not exist or
+	 *         can not be read
+	 */
+	public static String getChecksum(File file) {
+		if (!file.exists()) {
+			return null;
+		}
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-1"); //$NON-NLS-1$
+			Path root = file.toPath();
+			if (file.isDirectory()) {
+				try (Stream<Path> paths = Files.walk(root)) {
+					for (Path path : (Iterable<Path>) paths.filter(Files::isRegularFile).sorted()::iterator) {
+						digest.update(root.relativize(path).toString().replace('\\', '/').getBytes(StandardCharsets.UTF_8));
+						update(digest, path);
+					}
+				}
+			} else {
+				update(digest, root);
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (IOException | NoSuchAlgorithmException e) {
+			ApiPlugin.log(e);
+			return null;
+		}
+	}
+
+	private static void update(MessageDigest digest, Path file) throws IOException {
+		byte[] buffer = new byte[8192];
+		try (InputStream input = Files.newInputStream(file)) {
+			int read;
+			while ((read = input.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+			}
+		}
+	}
+
+	private static void copyTree(Path source, Path target) throws IOException {
+		try (Stream<Path> paths = Files.walk(source)) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				Path copy = target.resolve(source.relativize(path).toString());
+				if (Files.isDirectory(path)) {
+					Files.createDirectories(copy);
+				} else {
+					Files.copy(path, copy, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Deletes the reports of the references from the component with the given
+	 * id from the report location
+	 */
+	private void deleteReports(String id) {
+		File[] referees = fReportLocation.listFiles(File::isDirectory);
+		if (referees != null) {
+			for (File referee : referees) {
+				Util.delete(new File(referee, id));
+			}
+		}
+	}
+}
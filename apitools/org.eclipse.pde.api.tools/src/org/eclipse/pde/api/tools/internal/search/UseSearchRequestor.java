@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2015 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -139,6 +139,24 @@ public class UseSearchRequestor implements IApiSearchRequestor {
 		prepareScope(scope);
 	}
 
+	/**
+	 * Constructor for a copy of the given requestor, sharing its settings and
+	 * scope
+	 */
+	private UseSearchRequestor(UseSearchRequestor requestor) {
+		fSearchMask = requestor.fSearchMask;
+		fComponentIds = requestor.fComponentIds;
+		fScope = requestor.fScope;
+		jarPatterns = requestor.jarPatterns;
+		antFilterRoot = requestor.antFilterRoot;
+		fAnalyzer = new ReferenceAnalyzer();
+	}
+
+	@Override
+	public IApiSearchRequestor copy() {
+		return new UseSearchRequestor(this);
+	}
+
 	@Override
 	public boolean acceptComponent(IApiComponent component) {
 		try {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2017 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,8 +16,10 @@ package org.eclipse.pde.api.tools.internal.search;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
@@ -52,6 +54,12 @@ public class XmlSearchReporter implements IApiSearchReporter {
 	private int referenceCount = 0;
 	private int illegalCount = 0;
 	private int internalCount = 0;
+	private int restoredFilteredCount = 0;
+	/**
+	 * The reference, illegal and internal counts of each referencing
+	 * component, keyed by {@link #getId(IApiComponent)}
+	 */
+	private final Map<String, int[]> componentCounts = new HashMap<>();
 
 	/**
 	 * Constructor
@@ -92,15 +100,19 @@ public class XmlSearchReporter implements IApiSearchReporter {
 
 				// Update counters
 				if (!writtenReferences.contains(descriptor)) {
+					int[] counts = componentCounts.computeIfAbsent(getId(reference.getMember().getApiComponent()), id -> new int[3]);
 					referenceCount++;
+					counts[0]++;
 					if ((referenceInterface.getReferenceFlags() & IReference.F_ILLEGAL) > 0) {
 						illegalCount++;
+						counts[1]++;
 					}
 					// Though visibility is a bit flag, we want to match the xml
 					// output exactly, which separates into folders by
 					// visibility equality
 					if (descriptor.getVisibility() == VisibilityModifiers.PRIVATE) {
 						internalCount++;
+						counts[2]++;
 					}
 					writtenReferences.add(descriptor);
 				}
@@ -113,6 +125,33 @@ public class XmlSearchReporter implements IApiSearchReporter {
 		writer.writeReferences(descriptors.toArray(new IReferenceDescriptor[descriptors.size()]));
 	}
 
+	/**
+	 * Returns the counts reported so far for the references from the given
+	 * component
+	 *
+	 * @return the reference, illegal, internal and filtered counts, in that
+	 *         order
+	 */
+	int[] getCounts(IApiComponent component) {
+		int[] counts = componentCounts.getOrDefault(getId(component), new int[3]);
+		return new int[] { counts[0], counts[1], counts[2], AntFilterStore.getFilteredCount(component.getSymbolicName()) };
+	}
+
+	/**
+	 * Adds the counts of references that were not searched for but restored
+	 * from an earlier search
+	 *
+	 * @param counts the reference, illegal, internal and filtered counts, in
+	 *            that order
+	 * @see #getCounts(IApiComponent)
+	 */
+	void addCounts(int[] counts) {
+		referenceCount += counts[0];
+		illegalCount += counts[1];
+		internalCount += counts[2];
+		restoredFilteredCount += counts[3];
+	}
+
 	/**
 	 * Resolves the id to use for the component in the mapping
 	 *
@@ -186,7 +225,7 @@ public class XmlSearchReporter implements IApiSearchReporter {
 			root.setAttribute(IApiXmlConstants.ATTR_TOTAL, Integer.toString(referenceCount));
 			root.setAttribute(IApiXmlConstants.ATTR_COUNT_ILLEGAL, Integer.toString(illegalCount));
 			root.setAttribute(IApiXmlConstants.ATTR_COUNT_INTERNAL, Integer.toString(internalCount));
-			root.setAttribute(IApiXmlConstants.ATTR_COUNT_FILTERED, Integer.toString(AntFilterStore.filteredAPIProblems.size()));
+			root.setAttribute(IApiXmlConstants.ATTR_COUNT_FILTERED, Integer.toString(AntFilterStore.filteredAPIProblems.size() + restoredFilteredCount));
 
 			Util.writeDocumentToFile(doc, file);
 		} catch (IOException | CoreException e) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2024 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -23,6 +23,7 @@ import java.io.FileNotFoundException;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.LineNumberReader;
 import java.io.OutputStream;
 import java.io.StringReader;
@@ -40,12 +41,19 @@ import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.jar.JarFile;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -53,7 +61,6 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
-import java.util.zip.ZipInputStream;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.FactoryConfigurationError;
@@ -1736,24 +1743,87 @@ public final class Util {
 
 	/**
 	 * Unzip the contents of the given zip in the given directory (create it if
-	 * it doesn't exist)
+	 * it doesn't exist). The entries are extracted in parallel by a pool of
+	 * threads of its own, as the extraction blocks on I/O.
 	 */
 	public static void unzip(String zipPath, String destDirPath) throws IOException, CoreException {
-		try (ZipInputStream zis = new ZipInputStream(new BufferedInputStream(new FileInputStream(zipPath)));) {
+		try (ZipFile zipFile = new ZipFile(zipPath)) {
 			Path destDir = Path.of(destDirPath).toAbsolutePath().normalize();
-			ZipEntry zEntry;
-			while ((zEntry = zis.getNextEntry()) != null) {
-				Path entryTarget = resolveEntryTarget(destDir, zEntry.getName());
-				// if it is empty directory, create it
-				if (zEntry.isDirectory()) {
-					Files.createDirectories(entryTarget);
-					continue;
+			List<? extends ZipEntry> entries = Collections.list(zipFile.entries());
+			// check all entries before anything is extracted
+			Map<ZipEntry, Path> targets = new HashMap<>();
+			for (ZipEntry zEntry : entries) {
+				targets.put(zEntry, resolveEntryTarget(destDir, zEntry.getName()));
+			}
+			int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), entries.size()));
+			AtomicInteger count = new AtomicInteger();
+			ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+				Thread thread = new Thread(r, "Archive extraction " + count.incrementAndGet()); //$NON-NLS-1$
+				thread.setDaemon(true);
+				return thread;
+			});
+			try {
+				List<Future<?>> futures = new ArrayList<>(entries.size());
+				for (ZipEntry zEntry : entries) {
+					Path entryTarget = targets.get(zEntry);
+					futures.add(executor.submit(() -> {
+						extractEntry(zipFile, zEntry, entryTarget);
+						return null;
+					}));
 				}
-				// if it is a file, extract it
-				Files.createDirectories(entryTarget.getParent());
-				Files.copy(zis, entryTarget);
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof IOException ioException) {
+					throw ioException;
+				} else if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				} else if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IOException(cause);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Extraction of " + zipPath + " interrupted"); //$NON-NLS-1$ //$NON-NLS-2$
+			} finally {
+				// the zip file must stay open until no entry is read anymore
+				executor.shutdownNow();
+				awaitTermination(executor);
+			}
+		}
+	}
+
+	private static void extractEntry(ZipFile zipFile, ZipEntry zEntry, Path entryTarget) throws IOException {
+		// if it is empty directory, create it
+		if (zEntry.isDirectory()) {
+			Files.createDirectories(entryTarget);
+			return;
+		}
+		// if it is a file, extract it
+		Files.createDirectories(entryTarget.getParent());
+		try (InputStream stream = zipFile.getInputStream(zEntry)) {
+			Files.copy(stream, entryTarget);
+		}
+	}
+
+	/**
+	 * Waits until the given executor has stopped, restoring the interrupt
+	 * status if the wait was interrupted
+	 */
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				interrupted = true;
 			}
 		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2024 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,6 +29,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.tools.ant.BuildException;
 import org.eclipse.core.runtime.CoreException;
@@ -167,6 +172,11 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 	 */
 	private boolean processUnresolvedBundles = true;
 
+	/**
+	 * The number of components analyzed in parallel, <code>1</code> by default
+	 */
+	private int threads = 1;
+
 	private Summary[] createAllSummaries(Map<String, IApiProblem[]> allProblems) {
 		Set<Map.Entry<String, IApiProblem[]>> entrySet = allProblems.entrySet();
 		int size = entrySet.size();
@@ -360,6 +370,7 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 			IApiComponent[] apiComponents = currentBaseline.getApiComponents();
 			int length = apiComponents.length;
 			Set<String> visitedApiComponentNames = new HashSet<>();
+			List<IApiComponent> componentsToAnalyze = new ArrayList<>();
 			for (int i = 0; i < length; i++) {
 				IApiComponent apiComponent = apiComponents[i];
 				String name = apiComponent.getSymbolicName();
@@ -396,23 +407,16 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 				}
 
 				allApiBundles.add(name);
-				BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
-				try {
-					analyzer.setContinueOnResolverError(true);
-					analyzer.analyzeComponent(null, getFilterStore(name), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
-					IApiProblem[] problems = analyzer.getProblems();
-					// remove duplicates
-					problems = removeDuplicates(problems);
-					if (problems.length != 0) {
-						allProblems.put(name, problems);
-					} else if (this.debug) {
-						System.out.println(name + " has no problems"); //$NON-NLS-1$
-					}
-				} catch (RuntimeException e) {
-					ApiPlugin.log(e);
-					throw e;
-				} finally {
-					analyzer.dispose();
+				componentsToAnalyze.add(apiComponent);
+			}
+			IApiProblem[][] results = analyzeComponents(componentsToAnalyze, referenceBaseline);
+			// collect the results in the order of the components
+			for (int i = 0; i < results.length; i++) {
+				String name = componentsToAnalyze.get(i).getSymbolicName();
+				if (results[i].length != 0) {
+					allProblems.put(name, results[i]);
+				} else if (this.debug) {
+					System.out.println(name + " has no problems"); //$NON-NLS-1$
 				}
 			}
 			if (debug) {
@@ -531,6 +535,86 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		return allProblems.toArray(new IApiProblem[allProblems.size()]);
 	}
 
+	/**
+	 * Analyzes the given components against the reference baseline, using up
+	 * to {@link #threads} threads with an analyzer per component.
+	 *
+	 * @return the problems of each component, in the order of the components
+	 */
+	private IApiProblem[][] analyzeComponents(List<IApiComponent> components, IApiBaseline referenceBaseline) {
+		IApiProblem[][] results = new IApiProblem[components.size()][];
+		int poolSize = Math.min(this.threads, components.size());
+		if (poolSize <= 1) {
+			for (int i = 0; i < results.length; i++) {
+				results[i] = analyzeComponent(components.get(i), referenceBaseline);
+			}
+			return results;
+		}
+		if (this.debug) {
+			System.out.println("Analyzing " + components.size() + " components with " + poolSize + " threads"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(poolSize);
+		try {
+			List<Future<IApiProblem[]>> futures = new ArrayList<>(components.size());
+			for (IApiComponent component : components) {
+				futures.add(executor.submit(() -> analyzeComponent(component, referenceBaseline)));
+			}
+			for (int i = 0; i < results.length; i++) {
+				results[i] = futures.get(i).get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new BuildException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw new BuildException(cause);
+		} finally {
+			executor.shutdownNow();
+			awaitTermination(executor);
+		}
+		return results;
+	}
+
+	/**
+	 * Waits until the analyses that are still running when the task fails have
+	 * stopped, so that none of them outlives the task
+	 */
+	private static void awaitTermination(ExecutorService executor) {
+		boolean interrupted = false;
+		while (!executor.isTerminated()) {
+			try {
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private IApiProblem[] analyzeComponent(IApiComponent apiComponent, IApiBaseline referenceBaseline) {
+		String name = apiComponent.getSymbolicName();
+		BaseApiAnalyzer analyzer = new BaseApiAnalyzer();
+		try {
+			analyzer.setContinueOnResolverError(true);
+			analyzer.analyzeComponent(null, getFilterStore(name), this.properties, referenceBaseline, apiComponent, new BuildContext(), new NullProgressMonitor());
+			// remove duplicates
+			return removeDuplicates(analyzer.getProblems());
+		} catch (RuntimeException e) {
+			ApiPlugin.log(e);
+			throw e;
+		} finally {
+			analyzer.dispose();
+		}
+	}
+
 	private IApiFilterStore getFilterStore(String name) {
 		if (this.filters == null) {
 			return null;
@@ -873,4 +957,27 @@ public class APIToolsAnalysisTask extends CommonUtilsTask {
 		this.processUnresolvedBundles = processUnresolvedBundles;
 	}
 
+	/**
+	 * Set the number of api components (bundles) analyzed in parallel. Each
+	 * component is analyzed by its own analyzer, the reports are written once
+	 * all components were analyzed and do not depend on the number of threads.
+	 * <p>
+	 * The possible values are a positive number or <code>0</code> to use one
+	 * thread per available processor.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the given number of threads
+	 */
+	public void setThreads(String threads) {
+		try {
+			int value = Integer.parseInt(threads.trim());
+			this.threads = value > 0 ? value : Runtime.getRuntime().availableProcessors();
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.illegalThreadsValue, threads));
+		}
+	}
+
 }
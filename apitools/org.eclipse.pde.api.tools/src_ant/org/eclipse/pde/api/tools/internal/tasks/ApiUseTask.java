@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2009, 2013 IBM Corporation and others.
+ * Copyright (c) 2009, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,8 +18,11 @@ import java.io.File;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Calendar;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
@@ -33,11 +36,11 @@ import org.eclipse.pde.api.tools.internal.provisional.model.IApiBaseline;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiComponent;
 import org.eclipse.pde.api.tools.internal.provisional.model.IApiElement;
 import org.eclipse.pde.api.tools.internal.provisional.search.ApiSearchEngine;
-import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchReporter;
 import org.eclipse.pde.api.tools.internal.provisional.search.IApiSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.ApiDescriptionModifier;
 import org.eclipse.pde.api.tools.internal.search.SkippedComponent;
 import org.eclipse.pde.api.tools.internal.search.UseMetadata;
+import org.eclipse.pde.api.tools.internal.search.UseScanCache;
 import org.eclipse.pde.api.tools.internal.search.UseSearchRequestor;
 import org.eclipse.pde.api.tools.internal.search.XmlSearchReporter;
 import org.eclipse.pde.api.tools.internal.util.FilteredElements;
@@ -118,6 +121,17 @@ public final class ApiUseTask extends CommonUtilsTask {
 	 */
 	private String filters = null;
 
+	/**
+	 * Location of the cache of the use scan results, or <code>null</code> if
+	 * the results are not cached
+	 */
+	private String cacheLocation = null;
+
+	/**
+	 * The number of components searched in parallel, <code>1</code> by default
+	 */
+	private int threads = 1;
+
 	/**
 	 * Set the location of the current product you want to search.
 	 *
@@ -295,14 +309,24 @@ public final class ApiUseTask extends CommonUtilsTask {
 		cleanReportLocation();
 		UseMetadata data = new UseMetadata(getSearchFlags(), this.scopepattern, this.referencepattern, this.currentBaselineLocation, this.reportLocation, this.apiPatterns, this.internalPatterns, this.archivePatterns, DateFormat.getDateTimeInstance().format(Calendar.getInstance().getTime()), getDescription());
 		IApiBaseline baseline = getBaseline(CURRENT_BASELINE_NAME, this.currentBaselineLocation);
-		IApiSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
+		XmlSearchReporter reporter = new XmlSearchReporter(this.reportLocation, this.debug);
 
 		try {
 			Set<String> ids = new HashSet<>();
 			TreeSet<IApiComponent> scope = new TreeSet<>(Util.componentsorter);
 			getContext(baseline, ids, scope);
+			List<IApiComponent> searched = new ArrayList<>(scope);
+			UseScanCache cache = null;
+			if (this.cacheLocation != null) {
+				cache = createCache(baseline, ids);
+				for (IApiComponent component : scope) {
+					if (cache.restore(component, reporter)) {
+						searched.remove(component);
+					}
+				}
+			}
 			ApiSearchEngine engine = new ApiSearchEngine();
-			UseSearchRequestor requestor = new UseSearchRequestor(ids, scope.toArray(new IApiElement[scope.size()]), getSearchFlags());
+			UseSearchRequestor requestor = new UseSearchRequestor(ids, searched.toArray(new IApiElement[searched.size()]), getSearchFlags());
 			requestor.setJarPatterns(archivePatterns);
 			requestor.setFilterRoot(filters);
 			// override API descriptions as required
@@ -319,7 +343,12 @@ public final class ApiUseTask extends CommonUtilsTask {
 			}
 
 			ApiPlugin.DEBUG_SEARCH_ENGINE = this.debug;
-			engine.search(baseline, requestor, reporter, null);
+			engine.search(baseline, requestor, reporter, null, this.threads);
+			if (cache != null) {
+				for (IApiComponent component : searched) {
+					cache.store(component, reporter);
+				}
+			}
 		} catch (CoreException ce) {
 			throw new BuildException(Messages.ApiUseTask_search_engine_problem, ce);
 		} finally {
@@ -333,6 +362,33 @@ public final class ApiUseTask extends CommonUtilsTask {
 		}
 	}
 
+	/**
+	 * Creates the cache of the use scan results for the current search
+	 * settings and the given reference set of component ids
+	 *
+	 * @param baseline the baseline to search
+	 * @param ids the reference set of component ids
+	 * @return the cache
+	 */
+	private UseScanCache createCache(IApiBaseline baseline, Set<String> ids) {
+		UseScanCache cache = new UseScanCache(this.cacheLocation, this.reportLocation, this.debug);
+		StringBuilder settings = new StringBuilder();
+		settings.append(getSearchFlags()).append('\n');
+		settings.append(this.referencepattern).append('\n');
+		settings.append(Arrays.toString(this.apiPatterns)).append('\n');
+		settings.append(Arrays.toString(this.internalPatterns)).append('\n');
+		settings.append(Arrays.toString(this.archivePatterns)).append('\n');
+		settings.append(this.filters == null ? null : UseScanCache.getChecksum(new File(this.filters)));
+		TreeSet<IApiComponent> referenced = new TreeSet<>(Util.componentsorter);
+		for (IApiComponent component : baseline.getApiComponents()) {
+			if (ids.contains(component.getSymbolicName())) {
+				referenced.add(component);
+			}
+		}
+		cache.setContext(settings.toString(), referenced);
+		return cache;
+	}
+
 	/**
 	 * Returns if we should add the given component to our search scope
 	 *
@@ -495,6 +551,7 @@ public final class ApiUseTask extends CommonUtilsTask {
 			System.out.println("Searching for API references : " + this.considerapi); //$NON-NLS-1$
 			System.out.println("Searching for internal references : " + this.considerinternal); //$NON-NLS-1$
 			System.out.println("Searching for illegal API use : " + this.considerillegaluse); //$NON-NLS-1$
+			System.out.println("Threads : " + this.threads); //$NON-NLS-1$
 			if (this.excludeListLocation != null) {
 				System.out.println("Exclude list location : " + this.excludeListLocation); //$NON-NLS-1$
 			} else {
@@ -505,6 +562,9 @@ public final class ApiUseTask extends CommonUtilsTask {
 			} else {
 				System.out.println("No include list location"); //$NON-NLS-1$
 			}
+			if (this.cacheLocation != null) {
+				System.out.println("Use scan cache location : " + this.cacheLocation); //$NON-NLS-1$
+			}
 			if (this.filters != null) {
 				System.out.println("API Filter location : " + this.filters); //$NON-NLS-1$
 			} else {
@@ -623,4 +683,49 @@ public final class ApiUseTask extends CommonUtilsTask {
 	public void setFilters(String filters) {
 		this.filters = filters;
 	}
+
+	/**
+	 * Set the location of the cache of the use scan results.
+	 *
+	 * <p>
+	 * The results of each component of the scope are kept in this directory.
+	 * When the task is run again with the same settings, a component is only
+	 * searched again if its archive or folder changed, otherwise its results
+	 * are copied from the cache into the report location. All components are
+	 * searched again if any component matching the reference pattern has
+	 * changed, or if the search settings or API filters have changed.
+	 * </p>
+	 * <p>
+	 * The location is set using an absolute path. By default the results are not
+	 * cached.
+	 * </p>
+	 *
+	 * @param cacheLocation the given location for the cache
+	 */
+	public void setCacheLocation(String cacheLocation) {
+		this.cacheLocation = cacheLocation;
+	}
+
+	/**
+	 * Set the number of components (bundles) searched in parallel. The
+	 * references of each component are still written to the same report files,
+	 * whatever the number of threads.
+	 * <p>
+	 * The possible values are a positive number or <code>0</code> to use one
+	 * thread per available processor.
+	 * </p>
+	 * <p>
+	 * Default is <code>1</code>.
+	 * </p>
+	 *
+	 * @param threads the given number of threads
+	 */
+	public void setThreads(String threads) {
+		try {
+			int value = Integer.parseInt(threads.trim());
+			this.threads = value > 0 ? value : Runtime.getRuntime().availableProcessors();
+		} catch (NumberFormatException e) {
+			throw new BuildException(NLS.bind(Messages.illegalThreadsValue, threads));
+		}
+	}
 }
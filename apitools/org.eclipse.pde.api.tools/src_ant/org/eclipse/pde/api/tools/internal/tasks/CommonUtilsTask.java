@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2018 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,8 @@ package org.eclipse.pde.api.tools.internal.tasks;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -41,6 +43,7 @@ import org.w3c.dom.Document;
  */
 public abstract class CommonUtilsTask extends Task {
 	private static final String ECLIPSE_FOLDER_NAME = "eclipse"; //$NON-NLS-1$
+	private static final String EXTRACTED_STAMP_FILE = ".extracted"; //$NON-NLS-1$
 
 	protected static final String CURRENT = "currentBaseline"; //$NON-NLS-1$
 	protected static final String CURRENT_BASELINE_NAME = "current_baseline"; //$NON-NLS-1$
@@ -55,6 +58,24 @@ public abstract class CommonUtilsTask extends Task {
 	protected String includeListLocation;
 
 	protected String reportLocation;
+	protected boolean keepExtractedBaselines;
+
+	/**
+	 * Set whether baselines extracted from an archive are kept in the
+	 * temporary directory after the task, so that the next run can reuse them
+	 * if the archive did not change.
+	 * <p>
+	 * The possible values are: <code>true</code>, <code>false</code>
+	 * </p>
+	 * <p>
+	 * Default is <code>false</code>.
+	 * </p>
+	 *
+	 * @param value the given value
+	 */
+	public void setKeepExtractedBaselines(String value) {
+		this.keepExtractedBaselines = Boolean.toString(true).equals(value);
+	}
 
 	/**
 	 * Creates a baseline with the given name and EE file location in the given
@@ -96,14 +117,15 @@ public abstract class CommonUtilsTask extends Task {
 	 * Deletes an {@link IApiBaseline} from the given folder
 	 */
 	protected void deleteBaseline(String referenceLocation, File folder) {
-		if (Util.isArchive(referenceLocation)) {
+		if (Util.isArchive(referenceLocation) && !this.keepExtractedBaselines) {
 			Util.delete(folder.getParentFile());
 		}
 	}
 
 	/**
 	 * Extract extracts the SDK from the given location to the given directory
-	 * name
+	 * name. The extraction is skipped if the directory already contains the
+	 * same archive, as identified by its path, size and time stamp.
 	 *
 	 * @return the {@link File} handle to the extracted SDK
 	 */
@@ -116,6 +138,14 @@ public abstract class CommonUtilsTask extends Task {
 		if (Util.isArchive(location)) {
 			File tempDir = new File(System.getProperty("java.io.tmpdir")); //$NON-NLS-1$
 			File installDir = new File(tempDir, installDirName);
+			File stampFile = new File(installDir, EXTRACTED_STAMP_FILE);
+			String stamp = file.getAbsolutePath() + '\n' + file.length() + '\n' + file.lastModified();
+			if (stamp.equals(readStamp(stampFile))) {
+				if (this.debug) {
+					System.out.println("Reusing " + installDir.getAbsolutePath() + " extracted from " + location); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				return new File(installDir, ECLIPSE_FOLDER_NAME);
+			}
 			if (installDir.exists()) {
 				// delete existing folder
 				if (!Util.delete(installDir)) {
@@ -131,6 +161,7 @@ public abstract class CommonUtilsTask extends Task {
 				} else if (Util.isTGZFile(location)) {
 					Util.guntar(location, installDir.getAbsolutePath());
 				}
+				Files.writeString(stampFile.toPath(), stamp, StandardCharsets.UTF_8);
 			} catch (IOException e) {
 				throw new BuildException(NLS.bind(Messages.couldNotUnzip, location, installDir.getAbsolutePath()));
 			} catch (TarException e) {
@@ -144,6 +175,17 @@ public abstract class CommonUtilsTask extends Task {
 		}
 	}
 
+	private static String readStamp(File stampFile) {
+		if (!stampFile.isFile()) {
+			return null;
+		}
+		try {
+			return Files.readString(stampFile.toPath(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
 	/**
 	 * Initializes the include/exclude list from the given file location, and
 	 * returns a {@link Set} of project names that should be include/excluded.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2013 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -75,6 +75,7 @@ public class Messages extends NLS {
 	public static String printArguments;
 	public static String errorInComparison;
 	public static String illegalElementInScope;
+	public static String illegalThreadsValue;
 	public static String errorCreatingParentReportFile;
 	public static String errorCreatingReportDirectory;
 	public static String directoryIsEmpty;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -908,6 +908,45 @@ public class ScriptGenerationTests extends PDETestCase {
 		assertEquals("plugins/F", tasks[0].getRuntimeConfigurableWrapper().getAttributeMap().get("dir"));
 	}
 
+	@Test
+	public void testParallelCompilationStages() throws Exception {
+		IFolder buildFolder = newTest("parallelStages");
+		IFolder a = Utils.createFolder(buildFolder, "plugins/A");
+		IFolder b = Utils.createFolder(buildFolder, "plugins/B");
+		IFolder c = Utils.createFolder(buildFolder, "plugins/C");
+		IFolder d = Utils.createFolder(buildFolder, "plugins/D");
+
+		Utils.generateFeature(buildFolder, "feature", null, new String[] { "A", "B", "C", "D" });
+
+		Utils.generateBundle(a, "A");
+		Utils.generateBundle(c, "C");
+
+		Attributes attributes = new Attributes();
+		Attributes.Name requireAttribute = new Attributes.Name("Require-Bundle");
+		attributes.put(requireAttribute, "A");
+		Utils.generateBundleManifest(b, "B", "1.0.0", attributes);
+		Utils.generatePluginBuildProperties(b, null);
+
+		attributes.put(requireAttribute, "C");
+		Utils.generateBundleManifest(d, "D", "1.0.0", attributes);
+		Utils.generatePluginBuildProperties(d, null);
+
+		Properties properties = BuildConfiguration.getScriptGenerationProperties(buildFolder, "feature", "feature");
+		properties.put("flattenDependencies", "true");
+		properties.put("parallelCompilation", "true");
+		generateScripts(buildFolder, properties);
+
+		// two independent chains A <- B and C <- D only need two stages, whatever the sort order
+		IFile buildScript = buildFolder.getFile("compile.feature.xml");
+		Project antProject = assertValidAntScript(buildScript);
+		Target main = antProject.getTargets().get("main");
+		assertNotNull(main);
+		Object[] children = AntUtils.getChildrenByName(main, "parallel");
+		assertEquals(2, children.length);
+		assertEquals(2, AntUtils.getParallelTasks((Parallel) children[0]).length);
+		assertEquals(2, AntUtils.getParallelTasks((Parallel) children[1]).length);
+	}
+
 	public static class TestQualifierDirector extends BuildDirector {
 		public TestQualifierDirector() {
 			super();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2021 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License 2.0 which accompanies this distribution,
@@ -12,8 +12,12 @@
  ******************************************************************************/
 package org.eclipse.pde.internal.build.builder;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 
@@ -22,6 +26,7 @@ import org.eclipse.core.runtime.IPath;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.internal.build.AbstractScriptGenerator;
 import org.eclipse.pde.internal.build.AssemblyInformation;
+import org.eclipse.pde.internal.build.BundleHelper;
 import org.eclipse.pde.internal.build.Utils;
 
 public class CompilationScriptGenerator extends AbstractScriptGenerator {
@@ -99,37 +104,115 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 		List<BundleDescription> sortedPlugins = Utils.extractPlugins(getSite(false).getRegistry().getSortedBundles(), plugins);
 		IPath basePath = IPath.fromOSString(workingDirectory);
 
-		Set<Long> bucket = null;
-		if (parallel) {
-			bucket = new HashSet<>();
-			script.printParallel(threadCount, threadsPerProcessor);
-		}
-
+		List<BundleDescription> compiled = new ArrayList<>(sortedPlugins.size());
 		for (BundleDescription bundle : sortedPlugins) {
 			// Individual source bundles have empty build.jars targets, skip them
-			if (Utils.isSourceBundle(bundle)) {
-				continue;
+			if (!Utils.isSourceBundle(bundle)) {
+				compiled.add(bundle);
+			}
+		}
+
+		if (!parallel) {
+			for (BundleDescription bundle : compiled) {
+				printBuildJars(bundle, basePath);
+			}
+			return;
+		}
+
+		List<List<BundleDescription>> stages = computeStages(compiled);
+		if (!compiled.isEmpty()) {
+			String report = "Compiling " + compiled.size() + " bundles in " + stages.size() + " parallel stages, estimated speedup " + String.format(Locale.ROOT, "%.1f", (double) compiled.size() / stages.size()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+			script.printComment(report);
+			if (BundleHelper.getDefault().isDebugging()) {
+				System.out.println(report);
 			}
+		}
+		for (List<BundleDescription> stage : stages) {
+			script.printParallel(threadCount, threadsPerProcessor);
+			for (BundleDescription bundle : stage) {
+				printBuildJars(bundle, basePath);
+			}
+			script.printEndParallel();
+		}
+		if (stages.isEmpty()) {
+			script.printParallel(threadCount, threadsPerProcessor);
+			script.printEndParallel();
+		}
+	}
+
+	private void printBuildJars(BundleDescription bundle, IPath basePath) {
+		IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
+		script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
+	}
+
+	/**
+	 * Groups the given bundles into stages that can be compiled in parallel.
+	 * A bundle is placed in the stage following the last stage containing one
+	 * of its required bundles, so the number of stages is the length of the
+	 * longest dependency chain. Within a stage, bundles heading the longest
+	 * remaining chains come first so that they are started first when there are
+	 * fewer threads than bundles.
+	 *
+	 * @param bundles the bundles to compile, sorted so that required bundles
+	 * come first
+	 * @return the stages in the order in which they must be compiled
+	 */
+	private List<List<BundleDescription>> computeStages(List<BundleDescription> bundles) {
+		Map<Long, Integer> indices = new HashMap<>();
+		for (int i = 0; i < bundles.size(); i++) {
+			indices.put(Long.valueOf(bundles.get(i).getBundleId()), Integer.valueOf(i));
+		}
 
-			if (parallel) {
-				if (requiredInBucket(bundle, bucket)) {
-					script.printEndParallel();
-					script.printParallel(threadCount, threadsPerProcessor);
-					bucket.clear();
+		// Only edges to bundles sorted earlier are considered. Bundles in a cycle are
+		// then compiled in sorted order, as before.
+		List<List<Integer>> required = new ArrayList<>(bundles.size());
+		int[] levels = new int[bundles.size()];
+		int stageCount = 0;
+		for (int i = 0; i < bundles.size(); i++) {
+			List<Integer> prerequisites = new ArrayList<>();
+			int level = 0;
+			for (Long id : getRequiredIds(bundles.get(i))) {
+				Integer index = indices.get(id);
+				if (index != null && index.intValue() < i) {
+					prerequisites.add(index);
+					level = Math.max(level, levels[index.intValue()] + 1);
 				}
-				bucket.add(Long.valueOf(bundle.getBundleId()));
 			}
+			required.add(prerequisites);
+			levels[i] = level;
+			stageCount = Math.max(stageCount, level + 1);
+		}
 
-			IPath location = Utils.makeRelative(IPath.fromOSString(getLocation(bundle)), basePath);
-			script.printAntTask(DEFAULT_BUILD_SCRIPT_FILENAME, location.toString(), TARGET_BUILD_JARS, null, null, null);
+		// length of the longest chain of dependents, in reverse sorted order
+		int[] heights = new int[bundles.size()];
+		for (int i = bundles.size() - 1; i >= 0; i--) {
+			for (Integer index : required.get(i)) {
+				heights[index.intValue()] = Math.max(heights[index.intValue()], heights[i] + 1);
+			}
 		}
 
-		if (parallel) {
-			script.printEndParallel();
+		List<List<BundleDescription>> stages = new ArrayList<>(stageCount);
+		List<List<Integer>> stageIndices = new ArrayList<>(stageCount);
+		for (int i = 0; i < stageCount; i++) {
+			stageIndices.add(new ArrayList<>());
+		}
+		for (int i = 0; i < bundles.size(); i++) {
+			stageIndices.get(levels[i]).add(Integer.valueOf(i));
+		}
+		for (List<Integer> indexes : stageIndices) {
+			// stable sort, bundles with equal heights stay in sorted order
+			indexes.sort(Comparator.comparingInt((Integer index) -> heights[index.intValue()]).reversed());
+			List<BundleDescription> stage = new ArrayList<>(indexes.size());
+			for (Integer index : indexes) {
+				stage.add(bundles.get(index.intValue()));
+			}
+			stages.add(stage);
 		}
+		return stages;
 	}
 
-	private boolean requiredInBucket(BundleDescription bundle, Set<Long> bucket) {
+	private List<Long> getRequiredIds(BundleDescription bundle) {
+		List<Long> result = new ArrayList<>();
 		Properties properties = (Properties) bundle.getUserObject();
 		if (properties != null) {
 			String required = properties.getProperty(PROPERTY_REQUIRED_BUNDLE_IDS);
@@ -137,15 +220,13 @@ public class CompilationScriptGenerator extends AbstractScriptGenerator {
 				String[] ids = Utils.getArrayFromString(required, ":"); //$NON-NLS-1$
 				for (String id2 : ids) {
 					try {
-						if (bucket.contains(Long.valueOf(id2))) {
-							return true;
-						}
+						result.add(Long.valueOf(id2));
 					} catch (NumberFormatException e) {
 						//ignore
 					}
 				}
 			}
 		}
-		return false;
+		return result;
 	}
 }
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EContentAdapter;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+/**
+ * Index of the elements contained in a model, partitioned by their
+ * {@link EClass}. The index is attached to the root of the model and kept up to
+ * date as elements are added to or removed from the containment tree, so that
+ * looking up the elements of a class does not walk the whole model.
+ * <p>
+ * The elements of a class are returned in the order of the containment tree
+ * when the index was created, followed by the elements added later.
+ * </p>
+ */
+public class ModelIndex extends EContentAdapter {
+
+	private final Map<EClass, Set<EObject>> instances = new HashMap<>();
+
+	private ModelIndex() {
+	}
+
+	/**
+	 * Returns the index of the model with the given root, creating it on first
+	 * use.
+	 *
+	 * @param root the root element of the model
+	 * @return the index, never <code>null</code>
+	 */
+	public static ModelIndex getIndex(EObject root) {
+		ModelIndex index = (ModelIndex) EcoreUtil.getExistingAdapter(root, ModelIndex.class);
+		if (index == null) {
+			index = new ModelIndex();
+			root.eAdapters().add(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the elements that are instances of exactly the given class.
+	 *
+	 * @param eClass the class
+	 * @return a new list of the elements
+	 */
+	public List<EObject> getInstances(EClass eClass) {
+		final Set<EObject> elements = instances.get(eClass);
+		return elements == null ? new ArrayList<>() : new ArrayList<>(elements);
+	}
+
+	@Override
+	public boolean isAdapterForType(Object type) {
+		return type == ModelIndex.class;
+	}
+
+	@Override
+	protected void setTarget(EObject target) {
+		// index the element before its children to keep the tree order
+		instances.computeIfAbsent(target.eClass(), c -> new LinkedHashSet<>()).add(target);
+		super.setTarget(target);
+	}
+
+	@Override
+	protected void unsetTarget(EObject target) {
+		super.unsetTarget(target);
+		final Set<EObject> elements = instances.get(target.eClass());
+		if (elements != null) {
+			elements.remove(target);
+		}
+	}
+}
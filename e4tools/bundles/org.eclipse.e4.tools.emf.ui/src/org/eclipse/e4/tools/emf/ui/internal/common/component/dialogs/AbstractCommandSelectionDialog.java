@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2010, 2017 BestSolution.at and others.
+ * Copyright (c) 2010, 2026 BestSolution.at and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,19 +16,17 @@ package org.eclipse.e4.tools.emf.ui.internal.common.component.dialogs;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.e4.tools.emf.ui.common.IModelResource;
 import org.eclipse.e4.tools.emf.ui.internal.Messages;
+import org.eclipse.e4.tools.emf.ui.internal.common.ModelIndex;
 import org.eclipse.e4.tools.emf.ui.internal.common.component.ControlFactory;
 import org.eclipse.e4.ui.dialogs.filteredtree.PatternFilter;
 import org.eclipse.e4.ui.model.application.commands.MCommand;
 import org.eclipse.e4.ui.model.application.commands.impl.CommandsPackageImpl;
 import org.eclipse.emf.common.command.Command;
-import org.eclipse.emf.common.util.TreeIterator;
 import org.eclipse.emf.ecore.EObject;
-import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.emf.edit.domain.EditingDomain;
 import org.eclipse.jface.viewers.AbstractTreeViewer;
 import org.eclipse.jface.viewers.ArrayContentProvider;
@@ -99,14 +97,8 @@ public abstract class AbstractCommandSelectionDialog extends SaveDialogBoundsSet
 		viewer.getControl().setLayoutData(new GridData(GridData.FILL_BOTH));
 		viewer.addDoubleClickListener(event -> okPressed());
 
-		final List<EObject> commands = new ArrayList<>();
-		final TreeIterator<EObject> it = EcoreUtil.getAllContents(resource.getRoot().get(0), true);
-		while (it.hasNext()) {
-			final EObject o = it.next();
-			if (o.eClass() == CommandsPackageImpl.Literals.COMMAND) {
-				commands.add(o);
-			}
-		}
+		final List<EObject> commands = ModelIndex.getIndex(resource.getRoot().get(0))
+				.getInstances(CommandsPackageImpl.Literals.COMMAND);
 		viewer.setInput(commands);
 
 		final PatternFilter filter = new PatternFilter(true) {
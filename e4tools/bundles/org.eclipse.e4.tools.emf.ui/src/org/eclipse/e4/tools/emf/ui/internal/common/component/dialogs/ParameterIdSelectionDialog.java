@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2015-2015 Veselin Markov.
+ * Copyright (c) 2015, 2026 Veselin Markov.
  *
  *
  * This program and the accompanying materials
@@ -127,6 +127,11 @@ public class ParameterIdSelectionDialog extends AbstractIdDialog<MParameter, MCo
 	 * @return all found MCommandParameters or an empty {@link List}, never a {@code null} value.
 	 */
 	protected List<MCommandParameter> getParametersOfParentNodesCommand() {
+		// the parameters are contained by the element referencing them, so look there first
+		if (parameter instanceof EObject && ((EObject) parameter).eContainer() != null
+				&& canSupplyParameters(((EObject) parameter).eContainer())) {
+			return getCommandParameters(((EObject) parameter).eContainer());
+		}
 		TreeIterator<EObject> it = EcoreUtil.getAllContents(resource.getRoot().get(0), true);
 		while (it.hasNext()) {
 			EObject containerObjectWithCommand = it.next();
@@ -0,0 +1,214 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.e4.tools.emf.ui.internal.common.resourcelocator.TargetPlatformContributionCollector.Entry;
+
+/**
+ * Immutable snapshot of the entries found by a
+ * {@link TargetPlatformContributionCollector}, with a trigram index over the
+ * entry names and an index by package.
+ * <p>
+ * Search patterns use <code>*</code> and <code>?</code> wildcards, so every
+ * trigram of a literal part of the pattern must occur in a matching name. The
+ * index only narrows down the candidates, they still have to be matched
+ * against the pattern.
+ * </p>
+ */
+class ContributionIndex {
+
+	static final ContributionIndex EMPTY = new ContributionIndex(List.of());
+
+	private static final int[] NO_ENTRIES = new int[0];
+
+	private final Entry[] entries;
+	private final Map<String, int[]> trigrams;
+	private final Map<String, int[]> packages;
+	private final Set<String> bundleIds;
+	private final Set<String> locations;
+
+	/**
+	 * @param bundles
+	 *            the entries of each bundle, in search order
+	 */
+	ContributionIndex(Collection<List<Entry>> bundles) {
+		int size = 0;
+		for (List<Entry> bundle : bundles) {
+			size += bundle.size();
+		}
+		entries = new Entry[size];
+		Map<String, IntList> trigramLists = new HashMap<>();
+		Map<String, IntList> packageLists = new HashMap<>();
+		Set<String> ids = new LinkedHashSet<>();
+		Set<String> locs = new LinkedHashSet<>();
+		int index = 0;
+		for (List<Entry> bundle : bundles) {
+			for (Entry e : bundle) {
+				entries[index] = e;
+				String name = fold(e.name);
+				for (int i = 0; i + 3 <= name.length(); i++) {
+					// a name may contain the same trigram more than once
+					trigramLists.computeIfAbsent(name.substring(i, i + 3), t -> new IntList()).addOnce(index);
+				}
+				packageLists.computeIfAbsent(e.pakage, p -> new IntList()).addOnce(index);
+				if (e.bundleSymName != null) {
+					ids.add(e.bundleSymName);
+				}
+				locs.add(e.installLocation);
+				index++;
+			}
+		}
+		trigrams = toArrays(trigramLists);
+		packages = toArrays(packageLists);
+		bundleIds = Collections.unmodifiableSet(ids);
+		locations = Collections.unmodifiableSet(locs);
+	}
+
+	private static Map<String, int[]> toArrays(Map<String, IntList> lists) {
+		Map<String, int[]> result = new HashMap<>(lists.size() * 4 / 3 + 1);
+		lists.forEach((key, list) -> result.put(key, list.toArray()));
+		return result;
+	}
+
+	int size() {
+		return entries.length;
+	}
+
+	Entry get(int index) {
+		return entries[index];
+	}
+
+	Set<String> getBundleIds() {
+		return bundleIds;
+	}
+
+	Set<String> getPackages() {
+		return packages.keySet();
+	}
+
+	Set<String> getLocations() {
+		return locations;
+	}
+
+	/**
+	 * Returns the indexes, in ascending order, of the entries that may match
+	 * the given name pattern and are in one of the given packages.
+	 *
+	 * @param namePattern
+	 *            the name pattern, using <code>*</code> and <code>?</code>
+	 *            wildcards
+	 * @param packageFilter
+	 *            the packages to restrict the search to, or <code>null</code>
+	 *            or empty to search all packages
+	 * @return the candidate indexes, or <code>null</code> if every entry is a
+	 *         candidate
+	 */
+	int[] getCandidates(String namePattern, Collection<String> packageFilter) {
+		int[] result = null;
+		if (packageFilter != null && !packageFilter.isEmpty()) {
+			IntList inPackages = new IntList();
+			for (String pakage : packageFilter) {
+				int[] list = packages.get(pakage);
+				if (list != null) {
+					for (int i : list) {
+						inPackages.add(i);
+					}
+				}
+			}
+			result = inPackages.toArray();
+			Arrays.sort(result);
+		}
+		if (namePattern != null) {
+			for (String literal : fold(namePattern).split("[*?]")) { //$NON-NLS-1$
+				for (int i = 0; i + 3 <= literal.length(); i++) {
+					int[] list = trigrams.get(literal.substring(i, i + 3));
+					if (list == null) {
+						return NO_ENTRIES;
+					}
+					result = result == null ? list : intersect(result, list);
+					if (result.length == 0) {
+						return result;
+					}
+				}
+			}
+		}
+		return result;
+	}
+
+	private static int[] intersect(int[] a, int[] b) {
+		int[] result = new int[Math.min(a.length, b.length)];
+		int size = 0;
+		int i = 0;
+		int j = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				i++;
+			} else if (a[i] > b[j]) {
+				j++;
+			} else {
+				result[size++] = a[i];
+				i++;
+				j++;
+			}
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	/**
+	 * Folds the case of the given string the same way for names and patterns,
+	 * as the search is case insensitive
+	 */
+	private static String fold(String s) {
+		char[] chars = s.toCharArray();
+		for (int i = 0; i < chars.length; i++) {
+			chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+		}
+		return new String(chars);
+	}
+
+	/**
+	 * Growable list of ascending entry indexes
+	 */
+	private static class IntList {
+		private int[] values = new int[4];
+		private int size;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+
+		void addOnce(int value) {
+			if (size == 0 || values[size - 1] != value) {
+				add(value);
+			}
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(values, size);
+		}
+	}
+}
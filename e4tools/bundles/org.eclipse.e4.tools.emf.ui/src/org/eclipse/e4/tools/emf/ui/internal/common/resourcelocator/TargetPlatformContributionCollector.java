@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2014, 2023 TwelveTone LLC and others.
+ * Copyright (c) 2014, 2026 TwelveTone LLC and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -29,8 +29,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.zip.ZipEntry;
@@ -42,12 +45,13 @@ import javax.xml.xpath.XPathFactory;
 
 import org.eclipse.core.internal.runtime.XmlProcessorFactory;
 import org.eclipse.core.resources.IProject;
-import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider;
 import org.eclipse.e4.tools.emf.ui.common.IClassContributionProvider.ContributionData;
 import org.eclipse.e4.tools.emf.ui.common.IModelElementProvider;
@@ -87,10 +91,33 @@ import org.w3c.dom.NodeList;
 @SuppressWarnings("restriction")
 public abstract class TargetPlatformContributionCollector extends ClassContributionCollector {
 
-	CopyOnWriteArrayList<Entry> cacheEntry = new CopyOnWriteArrayList<>();
-	HashSet<String> cacheBundleId = new HashSet<>();
-	HashSet<String> cachePackage = new HashSet<>();
-	HashSet<String> cacheLocation = new HashSet<>();
+	/**
+	 * The entries found in a jar or directory, with the time stamp and size of
+	 * the jar they were read from
+	 */
+	record BundleEntries(long lastModified, long length, List<Entry> entries) {
+	}
+
+	/**
+	 * Entries per install location. Kept when the cache is cleared, so that only
+	 * jars that changed are scanned again.
+	 */
+	private final Map<String, BundleEntries> bundleEntries = new ConcurrentHashMap<>();
+	/**
+	 * The searchable snapshot of all entries, <code>null</code> until loaded
+	 */
+	private volatile ContributionIndex index;
+	private Job loadJob;
+	/**
+	 * Guards {@link #loadJob} and the pending reload
+	 */
+	private final Object loadLock = new Object();
+	/**
+	 * Set if a reload was requested while the index was loading, the load is
+	 * then run again once the current one finished.
+	 */
+	private boolean reloadPending;
+	private IProviderStatusCallback pendingStatusCallback;
 	private Pattern patternFile;
 	protected String cacheName;
 	protected boolean stopFiltering;
@@ -130,8 +157,23 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				int found = 0;
 				boolean more = false;
 
+				// only entries containing the literal parts of the pattern are matched
+				final ContributionIndex snapshot = getIndex();
+				final int[] candidates = snapshot.getCandidates(filter.namePattern, filter.getPackages());
+				final int count = candidates == null ? snapshot.size() : candidates.length;
+
+				Set<String> projectNames = null;
+				if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE) && filter.project != null) {
+					projectNames = new HashSet<>();
+					for (final IProject project : filter.project.getWorkspace().getRoot().getProjects()) {
+						projectNames.add(project.getName());
+					}
+				}
+
 				stopFiltering = false;
-				for (final Entry e : cacheEntry) {
+				String lastLocation = null;
+				for (int i = 0; i < count; i++) {
+					final Entry e = snapshot.get(candidates == null ? i : candidates[i]);
 					if (stopFiltering) {
 						break;
 					}
@@ -141,8 +183,11 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							stopFiltering = true;
 							break;
 						}
-						monitor.subTask(Messages.TargetPlatformContributionCollector_Searching
-								+ " " + e.installLocation); //$NON-NLS-1$
+						if (!e.installLocation.equals(lastLocation)) {
+							lastLocation = e.installLocation;
+							monitor.subTask(Messages.TargetPlatformContributionCollector_Searching
+									+ " " + e.installLocation); //$NON-NLS-1$
+						}
 					}
 
 					if (E.notEmpty(filter.getBundles())) {
@@ -150,11 +195,6 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							continue;
 						}
 					}
-					if (E.notEmpty(filter.getPackages())) {
-						if (!filter.getPackages().contains(e.pakage)) {
-							continue;
-						}
-					}
 					if (E.notEmpty(filter.getLocations())) {
 						boolean locationFound = false;
 						for (final String location : filter.getLocations()) {
@@ -172,23 +212,17 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							continue;
 						}
 					}
-					if (filter.getSearchScope().contains(ResourceSearchScope.WORKSPACE)) {
-						if (filter.project != null) {
-							final IWorkspace workspace = filter.project.getWorkspace();
-							boolean fnd = false;
-							for (final IProject project : workspace.getRoot().getProjects()) {
-								// String path =
-								// project.getLocationURI().getPath();
-								final String path = project.getName();
-								if (e.installLocation.contains(path)) {
-									fnd = true;
-									break;
-								}
-							}
-							if (!fnd) {
-								continue;
+					if (projectNames != null) {
+						boolean fnd = false;
+						for (final String path : projectNames) {
+							if (e.installLocation.contains(path)) {
+								fnd = true;
+								break;
 							}
 						}
+						if (!fnd) {
+							continue;
+						}
 					}
 
 					final Matcher m = patternName.matcher(e.name);
@@ -224,10 +258,13 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 			@Override
 			public void clearCache() {
 				stopFiltering = true;
-				cacheEntry.clear();
-				cacheBundleId.clear();
-				cachePackage.clear();
-				cacheLocation.clear();
+				synchronized (loadLock) {
+					if (isLoading()) {
+						// the running load may already have read what changed
+						reloadPending = true;
+					}
+				}
+				index = null;
 				outputDirectories.clear();
 			}
 		});
@@ -253,7 +290,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getBundleIds() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheBundleId);
+		return new ArrayList<>(getIndex().getBundleIds());
 	}
 
 	/**
@@ -262,7 +299,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getPackages() {
 		reloadCache(false, null);
-		return new ArrayList<>(cachePackage);
+		return new ArrayList<>(getIndex().getPackages());
 	}
 
 	/**
@@ -271,25 +308,54 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 	 */
 	public Collection<String> getLocations() {
 		reloadCache(false, null);
-		return new ArrayList<>(cacheLocation);
+		return new ArrayList<>(getIndex().getLocations());
+	}
+
+	/**
+	 * Returns whether the cache is loading in the background, must be called
+	 * while holding {@link #loadLock}
+	 */
+	private boolean isLoading() {
+		return loadJob != null && loadJob.getState() != Job.NONE;
+	}
+
+	private ContributionIndex getIndex() {
+		final ContributionIndex current = index;
+		return current != null ? current : ContributionIndex.EMPTY;
 	}
 
 	/**
 	 * Ensures the cache is loaded. By default it is loaded on first access, and
-	 * kept static until forced to reloaded.
+	 * kept static until forced to reloaded. Only jars that changed since they
+	 * were last scanned are read again.
+	 *
+	 * A forced reload requested while the cache is loading is run once the
+	 * current load finished, as that one may miss what changed.
 	 *
 	 * @param force
 	 *            true to force reload the cache
 	 */
 	private void reloadCache(boolean force, final IProviderStatusCallback providerStatusCallback) {
-		if (cacheEntry.isEmpty() || force) {
+		synchronized (loadLock) {
+			if (isLoading()) {
+				// still loading in the background
+				if (force) {
+					reloadPending = true;
+					if (providerStatusCallback != null) {
+						pendingStatusCallback = providerStatusCallback;
+					}
+				}
+				if (providerStatusCallback != null) {
+					providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
+				}
+				return;
+			}
+		}
+		if (index == null || force) {
 			if (providerStatusCallback != null) {
 				providerStatusCallback.onStatusChanged(ProviderStatus.INITIALIZING);
 			}
-			cacheEntry.clear();
-			cacheBundleId.clear();
-			cachePackage.clear();
-			cacheLocation.clear();
+			index = null;
 			outputDirectories.clear();
 
 			final Job job = new Job(Messages.TargetPlatformContributionCollector_BuildTargetPlatformIndex) {
@@ -303,6 +369,8 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					monitor.beginTask(Messages.TargetPlatformContributionCollector_updatingTargetPlatformCache
 							+ cacheName + ")", total); //$NON-NLS-1$
 
+					// entries per location in search order, the index is built once all are known
+					final Map<String, List<Entry>> scanned = new LinkedHashMap<>();
 					for (final IProject pj : projects) {
 						if (monitor.isCanceled()) {
 							break;
@@ -310,9 +378,12 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						final String rootDirectory = pj.getLocation().toOSString();
 						monitor.subTask(rootDirectory);
 						monitor.worked(1);
+						final List<Entry> entries = new ArrayList<>();
 						TargetPlatformContributionCollector.this
 						.visit(monitor, FilteredContributionDialog.getBundle(rootDirectory), rootDirectory,
-								new File(rootDirectory));
+								new File(rootDirectory), entries);
+						bundleEntries.put(rootDirectory, new BundleEntries(0, 0, entries));
+						scanned.putIfAbsent(rootDirectory, entries);
 					}
 
 					// load target platform bundles
@@ -328,55 +399,31 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 							// bundle = getBundle(new File())
 							continue;
 						}
-						URL url;
 						try {
 							final String installLocation = pluginModelBase.getInstallLocation();
 							if (installLocation.endsWith(".jar")) { //$NON-NLS-1$
-								url = new URL("file:///" + installLocation); //$NON-NLS-1$
-								try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
-									while (true) {
-										final ZipEntry entry = zis.getNextEntry();
-										if (entry == null) {
-											break;
-										}
-										final String name2 = entry.getName();
-										if (shouldIgnore(name2)) {
-											continue;
-										}
-										final Matcher m = patternFile.matcher(name2);
-										if (m.matches()) {
-											final Entry e = new Entry();
-											e.installLocation = installLocation;
-											cacheLocation.add(installLocation);
-											e.name = m.group(2);
-											e.path = m.group(1);
-											if (e.path != null) {
-												e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-												if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(1);
-												}
-												if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-													e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-												}
-											} else {
-												e.pakage = ""; //$NON-NLS-1$
-											}
-											cachePackage.add(e.pakage);
-
-											e.bundleSymName = pluginBase.getId();
-											if (e.path == null) {
-												e.path = ""; //$NON-NLS-1$
-											}
-											cacheEntry.add(e);
-											cacheBundleId.add(pluginBase.getId());
-										}
-									}
+								final File jar = new File(installLocation);
+								final long lastModified = jar.lastModified();
+								final long length = jar.length();
+								final BundleEntries cached = bundleEntries.get(installLocation);
+								List<Entry> entries;
+								if (cached != null && lastModified != 0 && cached.lastModified() == lastModified
+										&& cached.length() == length) {
+									entries = cached.entries();
+								} else {
+									entries = new ArrayList<>();
+									scanJar(installLocation, pluginBase.getId(), entries);
+									bundleEntries.put(installLocation, new BundleEntries(lastModified, length, entries));
 								}
+								scanned.putIfAbsent(installLocation, entries);
 							} else {
 								// not a jar file
 								final String bundle = getBundle(new File(installLocation));
 								if (bundle != null) {
-									visit(monitor, bundle, installLocation, new File(installLocation));
+									final List<Entry> entries = new ArrayList<>();
+									visit(monitor, bundle, installLocation, new File(installLocation), entries);
+									bundleEntries.put(installLocation, new BundleEntries(0, 0, entries));
+									scanned.putIfAbsent(installLocation, entries);
 								}
 							}
 						} catch (final MalformedURLException e) {
@@ -394,12 +441,33 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 						}
 						return Status.CANCEL_STATUS;
 					}
+					// forget bundles that are no longer in the target or workspace
+					bundleEntries.keySet().retainAll(scanned.keySet());
+					index = new ContributionIndex(scanned.values());
 					if (providerStatusCallback != null) {
 						providerStatusCallback.onStatusChanged(ProviderStatus.READY);
 					}
 					return Status.OK_STATUS;
 				}
 			};
+			job.addJobChangeListener(new JobChangeAdapter() {
+				@Override
+				public void done(IJobChangeEvent event) {
+					final IProviderStatusCallback pendingCallback;
+					synchronized (loadLock) {
+						if (!reloadPending) {
+							return;
+						}
+						reloadPending = false;
+						pendingCallback = pendingStatusCallback;
+						pendingStatusCallback = null;
+					}
+					reloadCache(true, pendingCallback);
+				}
+			});
+			synchronized (loadLock) {
+				loadJob = job;
+			}
 			job.schedule();
 
 			// User Job will not display dialog if called from a modal dialog,
@@ -505,13 +573,58 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 		return null;
 	}
 
-	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file) {
+	private void scanJar(String installLocation, String bundleSymName, List<Entry> entries)
+			throws MalformedURLException, IOException {
+		final URL url = new URL("file:///" + installLocation); //$NON-NLS-1$
+		try (final ZipInputStream zis = new ZipInputStream(url.openStream())) {
+			while (true) {
+				final ZipEntry entry = zis.getNextEntry();
+				if (entry == null) {
+					break;
+				}
+				final String name2 = entry.getName();
+				if (shouldIgnore(name2)) {
+					continue;
+				}
+				final Matcher m = patternFile.matcher(name2);
+				if (m.matches()) {
+					final Entry e = new Entry();
+					e.installLocation = installLocation;
+					e.name = m.group(2);
+					e.path = m.group(1);
+					e.pakage = toPackage(e.path);
+					e.bundleSymName = bundleSymName;
+					if (e.path == null) {
+						e.path = ""; //$NON-NLS-1$
+					}
+					entries.add(e);
+				}
+			}
+		}
+	}
+
+	private static String toPackage(String path) {
+		if (path == null) {
+			return ""; //$NON-NLS-1$
+		}
+		String pakage = path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
+		if (pakage.startsWith(".")) { //$NON-NLS-1$
+			pakage = pakage.substring(1);
+		}
+		if (pakage.endsWith(".")) { //$NON-NLS-1$
+			pakage = pakage.substring(0, pakage.length() - 1);
+		}
+		return pakage;
+	}
+
+	protected void visit(IProgressMonitor monitor, String bundleName, String installLocation, File file,
+			List<Entry> entries) {
 		for (final File fChild : file.listFiles()) {
 			if (monitor.isCanceled()) {
 				break;
 			}
 			if (fChild.isDirectory()) {
-				visit(monitor, bundleName, installLocation, fChild);
+				visit(monitor, bundleName, installLocation, fChild, entries);
 			} else {
 				String name2 = fChild.getAbsolutePath().substring(installLocation.length() + 1);
 				name2 = stripOutputDirectory(name2, installLocation);
@@ -522,23 +635,12 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 				if (m.matches()) {
 					final Entry e = new Entry();
 					e.installLocation = installLocation;
-					cacheLocation.add(installLocation);
 					e.name = m.group(2);
 					if (e.name.contains("$")) { //$NON-NLS-1$
 						continue;
 					}
 					e.path = m.group(1);
-					if (e.path != null) {
-						e.pakage = e.path.replace("/", "."); //$NON-NLS-1$ //$NON-NLS-2$
-						if (e.pakage.startsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(1);
-						}
-						if (e.pakage.endsWith(".")) { //$NON-NLS-1$
-							e.pakage = e.pakage.substring(0, e.pakage.length() - 1);
-						}
-					} else {
-						e.pakage = ""; //$NON-NLS-1$
-					}
+					e.pakage = toPackage(e.path);
 					if (e.path == null) {
 						e.path = ""; //$NON-NLS-1$
 					}
@@ -548,11 +650,7 @@ public abstract class TargetPlatformContributionCollector extends ClassContribut
 					e.bundleSymName = bundleName;
 					// TODO we need project to strip source paths.
 					// e.pakage = e.pakage.replaceAll("^bin.", "");
-					cachePackage.add(e.pakage);
-					cacheEntry.add(e);
-					if (bundleName != null) {
-						cacheBundleId.add(bundleName);
-					}
+					entries.add(e);
 				}
 			}
 		}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,11 +13,18 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Dictionary;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.CoreException;
@@ -27,6 +34,7 @@ import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.util.NLS;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
@@ -36,9 +44,45 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 
 	private static StateObjectFactory FACTORY;
 
+	/**
+	 * The resolved state of the last validation. Subsequent validations with
+	 * the same platform properties only add, remove and re-resolve the bundles
+	 * whose description or modification stamp changed instead of building and
+	 * resolving a new state from scratch. The cached state is handed out to
+	 * the operations and therefore never changed, updates are made to a copy
+	 * that replaces the cached state. The cache is cleared whenever the PDE
+	 * state changes, i.e. when the target platform or a plug-in model changes.
+	 */
+	private static ValidationCache fgCache;
+	private static final Object CACHE_LOCK = new Object();
+	private static final AtomicBoolean fgListening = new AtomicBoolean();
+
+	/**
+	 * If more than this fraction of the cached bundles changed, a new state is
+	 * created since incremental re-resolution would not be cheaper.
+	 */
+	private static final int FULL_RESOLVE_DIVISOR = 4;
+
 	private final Set<IPluginModelBase> fModels;
 	private final Dictionary<String, String>[] fProperties;
 	private State fState;
+	private ValidationCache fCache;
+
+	private record CachedBundle(BundleDescription source, long timeStamp, BundleDescription copy) {
+	}
+
+	private static final class ValidationCache {
+		final State state;
+		final List<Map<String, String>> properties;
+		final Map<IPluginModelBase, CachedBundle> bundles;
+		Map<Object, Object[]> resolverErrors;
+
+		ValidationCache(State state, List<Map<String, String>> properties, Map<IPluginModelBase, CachedBundle> bundles) {
+			this.state = state;
+			this.properties = properties;
+			this.bundles = bundles;
+		}
+	}
 
 	@SuppressWarnings("unchecked")
 	public BundleValidationOperation(Set<IPluginModelBase> models) {
@@ -55,21 +99,169 @@ public class BundleValidationOperation implements IWorkspaceRunnable {
 		if (FACTORY == null) {
 			FACTORY = BundleHelper.getPlatformAdmin().getFactory();
 		}
+		if (fgListening.compareAndSet(false, true)) {
+			PDECore.getDefault().getModelManager().addStateDeltaListener(new IStateDeltaListener() {
+				@Override
+				public void stateResolved(StateDelta delta) {
+					clearCache();
+				}
+
+				@Override
+				public void stateChanged(State newState) {
+					clearCache();
+				}
+			});
+		}
 		SubMonitor subMonitor = SubMonitor.convert(monitor, fModels.size() + 1);
-		fState = FACTORY.createState(true);
+		List<Map<String, String>> properties = toMaps(fProperties);
+		synchronized (CACHE_LOCK) {
+			ValidationCache cache = fgCache;
+			if (cache != null && cache.properties.equals(properties)) {
+				cache = updateState(cache, subMonitor);
+			} else {
+				cache = null;
+			}
+			if (cache == null) {
+				cache = createState(properties, subMonitor);
+			}
+			fgCache = cache;
+			fCache = cache;
+			fState = cache.state;
+		}
+		subMonitor.split(1);
+	}
+
+	/**
+	 * Drops the cached state, so that the next validation creates a new one
+	 * and no longer references the models it was built from
+	 */
+	private static void clearCache() {
+		synchronized (CACHE_LOCK) {
+			fgCache = null;
+		}
+	}
+
+	private ValidationCache createState(List<Map<String, String>> properties, SubMonitor subMonitor) {
+		State state = FACTORY.createState(true);
+		Map<IPluginModelBase, CachedBundle> bundles = new HashMap<>();
 		for (IPluginModelBase fModel : fModels) {
 			BundleDescription bundle = fModel.getBundleDescription();
 			if (bundle != null) {
-				fState.addBundle(FACTORY.createBundleDescription(bundle));
+				BundleDescription copy = FACTORY.createBundleDescription(bundle);
+				state.addBundle(copy);
+				bundles.put(fModel, new CachedBundle(bundle, fModel.getTimeStamp(), copy));
 			}
 			subMonitor.split(1);
 		}
-		fState.setPlatformProperties(fProperties);
-		fState.resolve(false);
-		subMonitor.split(1);
+		state.setPlatformProperties(fProperties);
+		state.resolve(false);
+		return new ValidationCache(state, properties, bundles);
+	}
+
+	/**
+	 * Brings a copy of the cached state in line with the models of this
+	 * operation by removing stale bundles, adding new or modified ones and
+	 * re-resolving only those. The cached state itself is left unchanged.
+	 * Removing a bundle does not re-resolve the bundles that were wired to it,
+	 * so if a removed or modified bundle has dependents the state is created
+	 * from scratch instead.
+	 *
+	 * @return the updated cache, or <code>null</code> if too many bundles
+	 *         changed, other bundles depend on a removed or modified bundle or
+	 *         the update failed and the state should be created from scratch
+	 *         instead
+	 */
+	private ValidationCache updateState(ValidationCache cache, SubMonitor subMonitor) {
+		Map<IPluginModelBase, CachedBundle> kept = new HashMap<>();
+		List<IPluginModelBase> added = new ArrayList<>();
+		for (IPluginModelBase fModel : fModels) {
+			BundleDescription bundle = fModel.getBundleDescription();
+			if (bundle == null) {
+				continue;
+			}
+			CachedBundle cached = cache.bundles.get(fModel);
+			if (cached != null && cached.source() == bundle && cached.timeStamp() == fModel.getTimeStamp()) {
+				kept.put(fModel, cached);
+			} else {
+				added.add(fModel);
+			}
+		}
+		List<CachedBundle> removed = new ArrayList<>();
+		for (Entry<IPluginModelBase, CachedBundle> entry : cache.bundles.entrySet()) {
+			if (!kept.containsKey(entry.getKey())) {
+				if (entry.getValue().copy().getDependents().length > 0) {
+					// an incremental resolve would leave the dependents wired to the old bundle
+					return null;
+				}
+				removed.add(entry.getValue());
+			}
+		}
+		if (added.isEmpty() && removed.isEmpty()) {
+			return cache;
+		}
+		if ((added.size() + removed.size()) * FULL_RESOLVE_DIVISOR > cache.bundles.size()) {
+			return null;
+		}
+		State state = FACTORY.createState(cache.state);
+		state.setPlatformProperties(fProperties);
+		// the copied state has its own copies of the cached bundles
+		Map<IPluginModelBase, CachedBundle> bundles = new HashMap<>();
+		for (Entry<IPluginModelBase, CachedBundle> entry : kept.entrySet()) {
+			CachedBundle cached = entry.getValue();
+			BundleDescription copy = state.getBundle(cached.copy().getBundleId());
+			if (copy == null) {
+				return null;
+			}
+			bundles.put(entry.getKey(), new CachedBundle(cached.source(), cached.timeStamp(), copy));
+		}
+		List<BundleDescription> reResolve = new ArrayList<>();
+		for (CachedBundle bundle : removed) {
+			BundleDescription copy = state.removeBundle(bundle.copy().getBundleId());
+			if (copy != null) {
+				reResolve.add(copy);
+			}
+		}
+		for (IPluginModelBase fModel : added) {
+			BundleDescription bundle = fModel.getBundleDescription();
+			BundleDescription copy = FACTORY.createBundleDescription(bundle);
+			if (!state.addBundle(copy)) {
+				return null;
+			}
+			bundles.put(fModel, new CachedBundle(bundle, fModel.getTimeStamp(), copy));
+			reResolve.add(copy);
+			subMonitor.split(1);
+		}
+		state.resolve(reResolve.toArray(new BundleDescription[reResolve.size()]));
+		return new ValidationCache(state, cache.properties, bundles);
+	}
+
+	private static List<Map<String, String>> toMaps(Dictionary<String, String>[] properties) {
+		List<Map<String, String>> maps = new ArrayList<>();
+		if (properties != null) {
+			for (Dictionary<String, String> dictionary : properties) {
+				Map<String, String> map = new HashMap<>();
+				if (dictionary != null) {
+					for (Enumeration<String> keys = dictionary.keys(); keys.hasMoreElements();) {
+						String key = keys.nextElement();
+						map.put(key, dictionary.get(key));
+					}
+				}
+				maps.add(map);
+			}
+		}
+		return maps;
 	}
 
 	public Map<Object, Object[]> getResolverErrors() {
+		synchronized (CACHE_LOCK) {
+			if (fCache.resolverErrors == null) {
+				fCache.resolverErrors = Collections.unmodifiableMap(computeResolverErrors());
+			}
+			return new LinkedHashMap<>(fCache.resolverErrors);
+		}
+	}
+
+	private Map<Object, Object[]> computeResolverErrors() {
 		Set<String> alreadyDuplicated = new HashSet<>();
 		Map<Object, Object[]> map = new LinkedHashMap<>();
 		BundleDescription[] bundles = fState.getBundles();
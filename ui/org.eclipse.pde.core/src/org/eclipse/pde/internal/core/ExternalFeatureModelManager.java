@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,10 +21,16 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -75,6 +81,20 @@ public class ExternalFeatureModelManager {
 
 	private IFeatureModel[] fModels;
 
+	/**
+	 * A feature model loaded from a feature XML file, together with the
+	 * modification stamp of the file it was loaded from
+	 */
+	private record CachedModel(long lastModified, long length, IFeatureModel model) {
+	}
+
+	/**
+	 * The feature models loaded from the target platform, by feature location.
+	 * Target features rarely change between target reloads, so models are only
+	 * parsed again if their feature XML file changed.
+	 */
+	private final Map<String, CachedModel> fModelCache = new ConcurrentHashMap<>();
+
 	public void addModelProviderListener(IModelProviderListener listener) {
 		fListeners.add(listener);
 	}
@@ -132,29 +152,41 @@ public class ExternalFeatureModelManager {
 			return new IFeatureModel[0];
 		}
 
-		List<IFeatureModel> result = new ArrayList<>();
 		TargetFeature[] features = target.getAllFeatures();
-		if (features != null) {
-			for (TargetFeature feature : features) {
-				IFeatureModel model = getFreshFeatureModel(feature);
-				if (model.isLoaded()) {
-					result.add(model);
-				}
-			}
+		if (features == null) {
+			fModelCache.clear();
+			return new IFeatureModel[0];
 		}
-		return result.toArray(new IFeatureModel[result.size()]);
+		// forget features that are no longer part of the target
+		Set<String> locations = Arrays.stream(features).map(TargetFeature::getLocation)
+				.filter(Objects::nonNull).collect(Collectors.toSet());
+		fModelCache.keySet().retainAll(locations);
+		return Arrays.stream(features).parallel() //
+				.map(this::getFreshFeatureModel) //
+				.filter(IFeatureModel::isLoaded) //
+				.toArray(IFeatureModel[]::new);
 	}
 
+	/**
+	 * Notifies the listeners of the models that were removed or added. Models
+	 * reused from the previous load are unchanged and left out of the event.
+	 */
 	private void notifyListeners(IFeatureModel[] oldModels, IFeatureModel[] newFeatureModels) {
-		if (oldModels.length > 0 || newFeatureModels.length > 0) {
+		Set<IFeatureModel> oldSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		oldSet.addAll(Arrays.asList(oldModels));
+		Set<IFeatureModel> newSet = Collections.newSetFromMap(new IdentityHashMap<>());
+		newSet.addAll(Arrays.asList(newFeatureModels));
+		IFeatureModel[] removed = Arrays.stream(oldModels).filter(m -> !newSet.contains(m)).toArray(IFeatureModel[]::new);
+		IFeatureModel[] added = Arrays.stream(newFeatureModels).filter(m -> !oldSet.contains(m)).toArray(IFeatureModel[]::new);
+		if (removed.length > 0 || added.length > 0) {
 			int type = 0;
-			if (oldModels.length > 0) {
+			if (removed.length > 0) {
 				type |= IModelProviderEvent.MODELS_REMOVED;
 			}
-			if (newFeatureModels.length > 0) {
+			if (added.length > 0) {
 				type |= IModelProviderEvent.MODELS_ADDED;
 			}
-			ModelProviderEvent replacedFeatures = new ModelProviderEvent(this, type, newFeatureModels, oldModels, null);
+			ModelProviderEvent replacedFeatures = new ModelProviderEvent(this, type, added, removed, null);
 			fireModelProviderEvent(replacedFeatures);
 		}
 
@@ -170,19 +202,28 @@ public class ExternalFeatureModelManager {
 
 	/**
 	 * Loads the model freshly from the location if it is is a valid file and
-	 * can be read, otherwise returns the internal model
+	 * can be read, otherwise returns the internal model. A model loaded before
+	 * from the same, unchanged file is reused.
 	 *
 	 * @param feature
 	 *            the feature to load the model for
 	 * @return the (possibly refreshed) model for this feature
 	 */
-	private static IFeatureModel getFreshFeatureModel(TargetFeature feature) {
+	private IFeatureModel getFreshFeatureModel(TargetFeature feature) {
 		String location = feature.getLocation();
 		if (location != null) {
 			File manifest = new File(location, ICoreConstants.FEATURE_FILENAME_DESCRIPTOR);
-			if (manifest.exists() && manifest.isFile()) {
+			if (manifest.isFile()) {
+				long lastModified = manifest.lastModified();
+				long length = manifest.length();
+				CachedModel cached = fModelCache.get(location);
+				if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+					return cached.model();
+				}
 				try {
-					return createModel(manifest);
+					IFeatureModel model = createModel(manifest);
+					fModelCache.put(location, new CachedModel(lastModified, length, model));
+					return model;
 				} catch (CoreException e) {
 					PDECore.log(e);
 				}
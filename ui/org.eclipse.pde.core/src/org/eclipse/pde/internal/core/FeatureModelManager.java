@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2017 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -103,11 +103,9 @@ public class FeatureModelManager {
 		fWorkspaceManager.addModelProviderListener(fProviderListener);
 
 		IFeatureModel[] models = fWorkspaceManager.getFeatureModels();
-		for (IFeatureModel model : models) {
-			// add all workspace models, including invalid or duplicate (save
-			// id, ver)
-			fActiveModels.add(model);
-		}
+		// add all workspace models, including invalid or duplicate (save
+		// id, ver)
+		fActiveModels.addAll(List.of(models));
 
 		fExternalManager = new ExternalFeatureModelManager();
 		fExternalManager.addModelProviderListener(fProviderListener);
@@ -265,6 +263,9 @@ public class FeatureModelManager {
 		}
 		if ((e.getEventTypes() & IModelProviderEvent.MODELS_ADDED) != 0) {
 			IModel[] added = e.getAddedModels();
+			// external models are added to the inactive models in one batch
+			List<IFeatureModel> externalModels = new ArrayList<>();
+			Set<Idver> externalIdVers = new HashSet<>();
 			for (IModel element : added) {
 				if (!(element instanceof IFeatureModel model)) {
 					continue;
@@ -284,7 +285,8 @@ public class FeatureModelManager {
 					}
 					String id = model.getFeature().getId();
 					String version = model.getFeature().getVersion();
-					if (!fInactiveModels.get(id, version).isEmpty()) {
+					Idver idver = new Idver(id, version);
+					if (!fInactiveModels.get(idver).isEmpty() || !externalIdVers.add(idver)) {
 						// ignore duplicate external models
 						continue;
 					}
@@ -295,13 +297,15 @@ public class FeatureModelManager {
 							continue;
 						}
 					}
-					FeatureTable.Idver idver = fInactiveModels.add(model);
-					// may need to activate this model
-					if (affectedIdVers == null) {
-						affectedIdVers = new HashSet<>();
-					}
-					affectedIdVers.add(idver);
+					externalModels.add(model);
+				}
+			}
+			if (!externalModels.isEmpty()) {
+				// may need to activate these models
+				if (affectedIdVers == null) {
+					affectedIdVers = new HashSet<>();
 				}
+				affectedIdVers.addAll(fInactiveModels.addAll(externalModels));
 			}
 		}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2017 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -117,6 +117,24 @@ class FeatureTable {
 	 * @return Idver used during insertion
 	 */
 	public synchronized Idver add(IFeatureModel model) {
+		return addImpl(model);
+	}
+
+	/**
+	 * Adds all given models at once. Updates the position of models that
+	 * already exist.
+	 *
+	 * @return the Idvers used during insertion, in the order of the models
+	 */
+	public synchronized List<Idver> addAll(List<IFeatureModel> models) {
+		List<Idver> idvers = new ArrayList<>(models.size());
+		for (IFeatureModel model : models) {
+			idvers.add(addImpl(model));
+		}
+		return idvers;
+	}
+
+	private Idver addImpl(IFeatureModel model) {
 		removeImpl(model);
 
 		IFeature feature = model.getFeature();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2012 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -18,6 +18,8 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 import org.eclipse.core.resources.IProject;
@@ -43,6 +45,12 @@ public class JavaElementChangeListener implements IElementChangedListener {
 
 	private final Properties fTable = new Properties();
 
+	/**
+	 * Time of the last synchronization per cache directory. Changes recorded
+	 * before that time were already handled and need not be checked again.
+	 */
+	private final Map<File, Long> fLastSynchronized = new HashMap<>();
+
 	public void start() {
 		JavaCore.addElementChangedListener(this, ElementChangedEvent.POST_CHANGE);
 		load();
@@ -179,9 +187,18 @@ public class JavaElementChangeListener implements IElementChangedListener {
 	}
 
 	public void synchronizeManifests(File cacheDirectory) {
+		long now = System.currentTimeMillis();
+		long lastSynchronized;
+		synchronized (fLastSynchronized) {
+			Long last = fLastSynchronized.put(cacheDirectory, now);
+			lastSynchronized = last == null ? Long.MIN_VALUE : last;
+		}
 		Enumeration<Object> keys = fTable.keys();
 		while (keys.hasMoreElements()) {
 			String id = keys.nextElement().toString();
+			if (Long.parseLong(fTable.get(id).toString()) < lastSynchronized) {
+				continue;
+			}
 			IPluginModelBase model = PluginRegistry.findModel(id);
 			if (model != null) {
 				File file = new File(cacheDirectory, id + "_" + model.getPluginBase().getVersion() + ".MF"); //$NON-NLS-1$ //$NON-NLS-2$
@@ -24,6 +24,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -297,8 +298,8 @@ public class P2Utils {
 		SimpleConfiguratorManipulator manipulator = BundleHelper.getDefault()
 				.acquireService(SimpleConfiguratorManipulator.class);
 		try {
-			manipulator.saveConfiguration(infos, bundlesTxt, null);
-			manipulator.saveConfiguration(sources, srcBundlesTxt, null);
+			saveConfiguration(manipulator, infos, bundlesTxt);
+			saveConfiguration(manipulator, sources, srcBundlesTxt);
 		} catch (IOException e) {
 			PDECore.logException(e);
 			return null;
@@ -315,6 +316,34 @@ public class P2Utils {
 		}
 	}
 
+	/**
+	 * Content of the bundles.info and source.info files last written by this
+	 * class, keyed by file, to skip rewriting them for repeated launches with
+	 * an unchanged set of bundles.
+	 */
+	private static final Map<File, WrittenConfiguration> fgWrittenConfigurations = new HashMap<>();
+
+	private record WrittenConfiguration(List<String> content, long lastModified) {
+	}
+
+	private static void saveConfiguration(SimpleConfiguratorManipulator manipulator, BundleInfo[] infos, File file)
+			throws IOException {
+		List<String> content = Arrays.stream(infos).map(info -> info.getSymbolicName() + ',' + info.getVersion()
+				+ ',' + info.getLocation() + ',' + info.getStartLevel() + ',' + info.isMarkedAsStarted()).toList();
+		synchronized (fgWrittenConfigurations) {
+			WrittenConfiguration written = fgWrittenConfigurations.get(file);
+			if (written != null && written.content().equals(content) && written.lastModified() == file.lastModified()) {
+				return;
+			}
+			fgWrittenConfigurations.remove(file);
+			manipulator.saveConfiguration(infos, file, null);
+			long lastModified = file.lastModified();
+			if (lastModified != 0) {
+				fgWrittenConfigurations.put(file, new WrittenConfiguration(content, lastModified));
+			}
+		}
+	}
+
 	/**
 	 * Returns whether a profile with the given ID exists in a profile registry
 	 * stored in the give p2 data area.
@@ -85,6 +85,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	public static boolean DEBUG_TARGET_PROFILE = false;
 	public static boolean DEBUG_VALIDATION = false;
 	public static boolean DEBUG_STATE = false;
+	public static boolean DEBUG_LAUNCH = false;
 	public static DebugTrace TRACE;
 	private static final String DEBUG = "/debug"; //$NON-NLS-1$
 
@@ -95,6 +96,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 	private static final String TARGET_PROFILE_DEBUG = PLUGIN_ID + "/target/profile"; //$NON-NLS-1$
 	private static final String VALIDATION_DEBUG = PLUGIN_ID + "/validation"; //$NON-NLS-1$
 	private static final String STATE_DEBUG = PLUGIN_ID + KEY_DEBUG_STATE;
+	private static final String LAUNCH_DEBUG = PLUGIN_ID + "/launch"; //$NON-NLS-1$
 
 	// Shared instance
 	private static PDECore inst;
@@ -469,6 +471,7 @@ public class PDECore extends Plugin implements DebugOptionsListener {
 		DEBUG_TARGET_PROFILE = DEBUG && options.getBooleanOption(TARGET_PROFILE_DEBUG, false);
 		DEBUG_VALIDATION = DEBUG && options.getBooleanOption(VALIDATION_DEBUG, false);
 		DEBUG_STATE = DEBUG & options.getBooleanOption(STATE_DEBUG, false);
+		DEBUG_LAUNCH = DEBUG && options.getBooleanOption(LAUNCH_DEBUG, false);
 	}
 
 	/**
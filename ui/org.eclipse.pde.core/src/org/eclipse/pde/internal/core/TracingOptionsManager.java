@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2016 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,8 @@
 package org.eclipse.pde.internal.core;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -24,10 +24,16 @@ import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -37,7 +43,39 @@ import org.eclipse.core.runtime.SubMonitor;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.PluginRegistry;
 
+/**
+ * Provides the tracing options declared in the <code>.options</code> files of
+ * the plug-ins.
+ * <p>
+ * The template always holds the options of all plug-ins, also when only the
+ * options of one plug-in are asked for, since a <code>.options</code> file may
+ * declare options of other plug-ins as well. The options of each plug-in are
+ * cached in memory while the plug-in is part of the registry and its stamp is
+ * unchanged, they are not persisted across sessions.
+ * </p>
+ */
 public class TracingOptionsManager {
+
+	/**
+	 * The options of a bundle together with the time stamp and size of the file
+	 * they were read from (the <code>.options</code> file of a directory
+	 * bundle or the jar itself). <code>options</code> is <code>null</code> if
+	 * the bundle has no options.
+	 */
+	private record CachedOptions(long lastModified, long length, Map<String, String> options) {
+	}
+
+	/**
+	 * Options per bundle install location, kept across {@link #reset()} so that
+	 * only bundles that changed on disk are read again. An entry is only used
+	 * while the stamp of the bundle matches, and entries of bundles that are no
+	 * longer in the registry are evicted when the template is loaded. The cache
+	 * lives in memory only: checking a bundle against its stamp needs a file
+	 * system access anyway, so a persistent copy would only save the first read
+	 * of each <code>.options</code> file per session.
+	 */
+	private static final Map<String, CachedOptions> fgOptionsCache = new ConcurrentHashMap<>();
+
 	private Map<String, String> template;
 
 	public TracingOptionsManager() {
@@ -83,43 +121,36 @@ public class TracingOptionsManager {
 			return template;
 		}
 
-		Map<String, String> temp = new HashMap<>();
 		IPluginModelBase[] models = PluginRegistry.getAllModels();
 		SubMonitor subMonitor = SubMonitor.convert(monitor, models.length);
-
-		for (IPluginModelBase model : models) {
-			subMonitor.split(1);
-			Properties options = TracingOptionsManager.getOptions(model);
-			if (options != null) {
-				@SuppressWarnings({ "rawtypes", "unchecked" })
-				Map<String, String> entries = (Map) options;
-				temp.putAll(entries); // All entries are of String/String
+		// reading the options is I/O bound, so read all bundles in parallel
+		List<CompletableFuture<Map<String, String>>> reads = Arrays.stream(models)
+				.map(model -> CompletableFuture.supplyAsync(() -> getOptions(model))).toList();
+		try {
+			// merge in model order so that later models still win on duplicate
+			// keys
+			Map<String, String> temp = new HashMap<>();
+			for (CompletableFuture<Map<String, String>> read : reads) {
+				subMonitor.split(1);
+				Map<String, String> options = read.join();
+				if (options != null) {
+					temp.putAll(options);
+				}
 			}
+			// forget the options of bundles that are no longer in the registry
+			Set<String> locations = Arrays.stream(models).map(IPluginModelBase::getInstallLocation)
+					.filter(Objects::nonNull).collect(Collectors.toSet());
+			fgOptionsCache.keySet().retainAll(locations);
+			template = temp;
+			return template;
+		} finally {
+			// do not read the remaining bundles if the monitor was canceled
+			reads.forEach(read -> read.cancel(false));
 		}
-		template = temp;
-		return template;
 	}
 
 	public static boolean isTraceable(IPluginModelBase model) {
-		String location = model.getInstallLocation();
-		if (location == null) {
-			return false;
-		}
-
-		File pluginLocation = new File(location);
-		if (pluginLocation.isDirectory()) {
-			return new File(pluginLocation, ICoreConstants.OPTIONS_FILENAME).exists();
-		}
-		try (ZipFile jarFile = new ZipFile(pluginLocation, ZipFile.OPEN_READ)) {
-			ZipEntry manifestEntry = jarFile.getEntry(ICoreConstants.OPTIONS_FILENAME);
-			if (manifestEntry != null) {
-				try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
-					return stream != null;
-				}
-			}
-		} catch (IOException e) {
-		}
-		return false;
+		return getOptions(model) != null;
 	}
 
 	public synchronized void reset() {
@@ -149,43 +180,63 @@ public class TracingOptionsManager {
 		saveOptions(file, getTracingOptions(map, null));
 	}
 
-	private static Properties getOptions(IPluginModelBase model) {
+	/**
+	 * Returns the tracing options of the given model, or <code>null</code> if
+	 * it has none. Options are cached per install location and only read again
+	 * if the <code>.options</code> file (or the jar containing it) changed.
+	 */
+	private static Map<String, String> getOptions(IPluginModelBase model) {
 		String location = model.getInstallLocation();
 		if (location == null) {
 			return null;
 		}
+		File pluginLocation = new File(location);
+		boolean directory = pluginLocation.isDirectory();
+		File stampFile = directory ? new File(pluginLocation, ICoreConstants.OPTIONS_FILENAME) : pluginLocation;
+		long lastModified = stampFile.lastModified();
+		if (lastModified == 0) {
+			// no .options file or no bundle at all
+			fgOptionsCache.remove(location);
+			return null;
+		}
+		long length = stampFile.length();
+		CachedOptions cached = fgOptionsCache.get(location);
+		if (cached != null && cached.lastModified() == lastModified && cached.length() == length) {
+			return cached.options();
+		}
+		Map<String, String> options = null;
 		try {
-			File pluginLocation = new File(location);
-			Properties modelOptions = new Properties();
-			if (pluginLocation.isDirectory()) {
-				File file = new File(pluginLocation, ICoreConstants.OPTIONS_FILENAME);
-				if (file.exists()) {
-					try (InputStream stream = new FileInputStream(file)) {
-						modelOptions.load(stream);
-					}
-					try (InputStream stream = new FileInputStream(file)) {
-						loadComments(stream, modelOptions);
-					}
-					return modelOptions;
-				}
-			} else {
-				try (ZipFile jarFile = new ZipFile(pluginLocation, ZipFile.OPEN_READ)) {
-					ZipEntry manifestEntry = jarFile.getEntry(ICoreConstants.OPTIONS_FILENAME);
-					if (manifestEntry != null) {
-						try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
-							modelOptions.load(stream);
-						}
-						try (InputStream stream = jarFile.getInputStream(manifestEntry)) {
-							loadComments(stream, modelOptions);
-						}
-						return modelOptions;
-					}
-				}
+			byte[] content = directory ? Files.readAllBytes(stampFile.toPath()) : readOptionsEntry(pluginLocation);
+			if (content != null) {
+				options = parseOptions(content);
 			}
 		} catch (IOException e) {
 			PDECore.logException(e);
+			return null;
+		}
+		fgOptionsCache.put(location, new CachedOptions(lastModified, length, options));
+		return options;
+	}
+
+	private static byte[] readOptionsEntry(File jar) throws IOException {
+		try (ZipFile jarFile = new ZipFile(jar, ZipFile.OPEN_READ)) {
+			ZipEntry optionsEntry = jarFile.getEntry(ICoreConstants.OPTIONS_FILENAME);
+			if (optionsEntry == null) {
+				return null;
+			}
+			try (InputStream stream = jarFile.getInputStream(optionsEntry)) {
+				return stream.readAllBytes();
+			}
 		}
-		return null;
+	}
+
+	private static Map<String, String> parseOptions(byte[] content) throws IOException {
+		Properties modelOptions = new Properties();
+		modelOptions.load(new ByteArrayInputStream(content));
+		loadComments(new ByteArrayInputStream(content), modelOptions);
+		Map<String, String> options = new HashMap<>();
+		modelOptions.forEach((key, value) -> options.put((String) key, (String) value));
+		return options;
 	}
 
 	/**
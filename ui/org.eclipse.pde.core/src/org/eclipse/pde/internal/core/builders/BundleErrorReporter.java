@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Deque;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.List;
@@ -62,7 +61,6 @@ import org.eclipse.osgi.service.resolver.ExportPackageDescription;
 import org.eclipse.osgi.service.resolver.HostSpecification;
 import org.eclipse.osgi.service.resolver.ImportPackageSpecification;
 import org.eclipse.osgi.service.resolver.ResolverError;
-import org.eclipse.osgi.service.resolver.State;
 import org.eclipse.osgi.service.resolver.StateObjectFactory;
 import org.eclipse.osgi.service.resolver.VersionConstraint;
 import org.eclipse.osgi.util.ManifestElement;
@@ -1203,7 +1201,8 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 			}
 		}
 
-		HashMap<String, ExportPackageDescription> exported = getAvailableExportedPackages(desc.getContainingState());
+		// shared by the validation of all manifests while the state is unchanged
+		ExportPackageIndex exported = hasUnresolved ? ExportPackageIndex.getIndex(desc.getContainingState()) : null;
 
 		ImportPackageSpecification[] imports = desc.getImportPackages();
 		if (desc.hasDynamicImports()) {
@@ -1241,7 +1240,7 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 				boolean optional = isOptional(element);
 				int severity = getRequireBundleSeverity(element, optional);
 
-				ExportPackageDescription export = exported.get(name);
+				ExportPackageDescription export = exported.getExporter(name);
 				if (export != null) {
 					if (export.getSupplier().isResolved()) {
 						Version version = export.getVersion();
@@ -1272,26 +1271,6 @@ public class BundleErrorReporter extends JarManifestErrorReporter {
 		}
 	}
 
-	private HashMap<String, ExportPackageDescription> getAvailableExportedPackages(State state) {
-		BundleDescription[] bundles = state.getBundles();
-
-		HashMap<String, ExportPackageDescription> exported = new HashMap<>();
-		for (BundleDescription bundle : bundles) {
-			ExportPackageDescription[] exports = bundle.getExportPackages();
-			for (ExportPackageDescription export : exports) {
-				String name = export.getName();
-				if (exported.containsKey(name)) {
-					if (export.getSupplier().isResolved()) {
-						exported.put(name, export);
-					}
-				} else {
-					exported.put(name, export);
-				}
-			}
-		}
-		return exported;
-	}
-
 	protected void validateExportPackage(IProgressMonitor monitor) {
 		IHeader header = getHeader(Constants.EXPORT_PACKAGE);
 		if (header == null) {
@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.internal.core.builders;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.osgi.service.resolver.BundleDelta;
+import org.eclipse.osgi.service.resolver.BundleDescription;
+import org.eclipse.osgi.service.resolver.ExportPackageDescription;
+import org.eclipse.osgi.service.resolver.State;
+import org.eclipse.osgi.service.resolver.StateDelta;
+
+/**
+ * Immutable index of the packages exported by the bundles of a resolver
+ * {@link State}. The index of the last validated state is shared by the
+ * manifest validation of all projects until the bundles of the state change.
+ */
+final class ExportPackageIndex {
+
+	private static final int STRUCTURAL_CHANGE = BundleDelta.ADDED | BundleDelta.REMOVED | BundleDelta.UPDATED;
+
+	private static volatile ExportPackageIndex fgIndex;
+
+	private final State fState;
+	private final long fTimeStamp;
+	// exporters of each package, in the order of the bundles in the state
+	private final Map<String, ExportPackageDescription[]> fExporters;
+
+	private ExportPackageIndex(State state, long timeStamp, Map<String, ExportPackageDescription[]> exporters) {
+		fState = state;
+		fTimeStamp = timeStamp;
+		fExporters = exporters;
+	}
+
+	/**
+	 * Returns the index of the given state, reusing the shared index if the
+	 * state did not change since it was built.
+	 */
+	static ExportPackageIndex getIndex(State state) {
+		ExportPackageIndex index = fgIndex;
+		if (index == null || index.fState != state || index.fTimeStamp != state.getTimeStamp()) {
+			index = create(state);
+			fgIndex = index;
+		}
+		return index;
+	}
+
+	private static ExportPackageIndex create(State state) {
+		// read the time stamp first so that concurrent changes make the index stale
+		long timeStamp = state.getTimeStamp();
+		Map<String, List<ExportPackageDescription>> lists = new HashMap<>();
+		for (BundleDescription bundle : state.getBundles()) {
+			for (ExportPackageDescription export : bundle.getExportPackages()) {
+				lists.computeIfAbsent(export.getName(), name -> new ArrayList<>(1)).add(export);
+			}
+		}
+		Map<String, ExportPackageDescription[]> exporters = new HashMap<>(lists.size() * 4 / 3 + 1);
+		lists.forEach((name, list) -> exporters.put(name, list.toArray(new ExportPackageDescription[list.size()])));
+		return new ExportPackageIndex(state, timeStamp, exporters);
+	}
+
+	/**
+	 * Updates the shared index after the given state was resolved. The index
+	 * only depends on the exports of the bundles and picks the resolved
+	 * exporter when looked up, so it remains valid if bundles were only
+	 * resolved or unresolved. It is discarded if bundles were added, removed or
+	 * updated.
+	 *
+	 * @param delta the resolver delta, or <code>null</code> if the target
+	 *            changed
+	 */
+	static void stateResolved(StateDelta delta) {
+		ExportPackageIndex index = fgIndex;
+		if (index == null) {
+			return;
+		}
+		if (delta == null || delta.getState() != index.fState) {
+			fgIndex = null;
+			return;
+		}
+		for (BundleDelta bundleDelta : delta.getChanges()) {
+			if ((bundleDelta.getType() & STRUCTURAL_CHANGE) != 0) {
+				fgIndex = null;
+				return;
+			}
+		}
+		fgIndex = new ExportPackageIndex(index.fState, index.fState.getTimeStamp(), index.fExporters);
+	}
+
+	/**
+	 * Discards the shared index after the state was replaced
+	 */
+	static void stateChanged() {
+		fgIndex = null;
+	}
+
+	/**
+	 * Returns the exporter of the given package. If several bundles export the
+	 * package, the last resolved exporter is returned, or the first exporter if
+	 * none is resolved.
+	 *
+	 * @param packageName the package name
+	 * @return the exporter or <code>null</code> if no bundle exports the package
+	 */
+	ExportPackageDescription getExporter(String packageName) {
+		ExportPackageDescription[] exporters = fExporters.get(packageName);
+		if (exporters == null) {
+			return null;
+		}
+		for (int i = exporters.length - 1; i > 0; i--) {
+			if (exporters[i].getSupplier().isResolved()) {
+				return exporters[i];
+			}
+		}
+		return exporters[0];
+	}
+}
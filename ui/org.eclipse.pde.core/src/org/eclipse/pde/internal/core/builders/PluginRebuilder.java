@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2012 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -87,12 +87,14 @@ public class PluginRebuilder implements IStateDeltaListener, IResourceChangeList
 
 	@Override
 	public void stateChanged(State newState) {
+		ExportPackageIndex.stateChanged();
 		fTouchWorkspace = true;
 		fProjectNames.clear();
 	}
 
 	@Override
 	public void stateResolved(StateDelta delta) {
+		ExportPackageIndex.stateResolved(delta);
 		if (delta == null) {
 			// if delta is null, then target has changed
 			// prepare all projects for "touching"
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2013 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -46,10 +46,7 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 		fPoint = extPointID;
 		fSchemaURL = schemaURL;
 		if (fSchemaURL != null) {
-			File file = new File(fSchemaURL.getFile());
-			if (file.exists()) {
-				fLastModified = file.lastModified();
-			}
+			fLastModified = SchemaRegistry.getLastModified(fSchemaURL);
 		}
 		schemaProvider = provider;
 	}
@@ -78,7 +75,7 @@ public class SchemaDescriptor implements ISchemaDescriptor {
 	}
 
 	@Override
-	public ISchema getSchema(boolean abbreviated) {
+	public synchronized ISchema getSchema(boolean abbreviated) {
 		if (fSchema == null && fSchemaURL != null) {
 			if (fEditable) {
 				fSchema = new EditableSchema(this, fSchemaURL, abbreviated);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,8 @@ package org.eclipse.pde.internal.core.schema;
 import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.core.runtime.IPath;
 import org.eclipse.pde.core.plugin.IFragment;
@@ -33,16 +34,42 @@ import org.eclipse.pde.internal.core.ischema.ISchemaDescriptor;
 import org.eclipse.pde.internal.core.text.plugin.PluginExtensionPointNode;
 import org.eclipse.pde.internal.core.util.CoreUtility;
 
+/**
+ * Registry of the schemas of extension points and of the schemas they include,
+ * safe to use from several validation threads.
+ * <p>
+ * Schemas are kept in memory only and are loaded again in a new session. The
+ * extension validation works on the full {@link ISchema} model (compositors,
+ * references, restrictions and the included schemas), which validation already
+ * loads without the documentation, so there is no separate compiled or
+ * persisted form of it.
+ * </p>
+ */
 public class SchemaRegistry {
 
-	private final HashMap<String, ISchemaDescriptor> fRegistry = new HashMap<>();
+	/**
+	 * Whether a jar contains a schema, with the time stamp of the jar
+	 */
+	private record JarLookup(long lastModified, boolean contains) {
+	}
+
+	/**
+	 * Caches the schema lookups in jars so that resolving the schema of an
+	 * extension point does not open the jar every time. Keyed by jar path and
+	 * schema path. The lookups of a jar are evicted when a descriptor of a
+	 * schema in it is dropped.
+	 */
+	private static final Map<String, JarLookup> fgJarLookups = new ConcurrentHashMap<>();
+
+	private final Map<String, ISchemaDescriptor> fRegistry = new ConcurrentHashMap<>();
 
 	public ISchema getSchema(String extPointID) {
 		IPluginExtensionPoint point = PDECore.getDefault().getExtensionsRegistry().findExtensionPoint(extPointID);
 		if (point == null) {
 			// if there is an old schema associated with this extension point, release it.
-			if (fRegistry.containsKey(extPointID)) {
-				fRegistry.remove(extPointID);
+			ISchemaDescriptor removed = fRegistry.remove(extPointID);
+			if (removed != null) {
+				evictJarLookups(removed);
 			}
 			return null;
 		}
@@ -52,12 +79,16 @@ public class SchemaRegistry {
 			return null;
 		}
 
-		ISchemaDescriptor desc = getExistingDescriptor(extPointID, url);
-		if (desc == null) {
-			desc = new SchemaDescriptor(extPointID, url);
-			fRegistry.put(extPointID, desc);
-		}
-
+		ISchemaDescriptor desc = fRegistry.compute(extPointID, (key, existing) -> {
+			if (existing != null) {
+				if (!hasSchemaChanged(existing, url)) {
+					return existing;
+				}
+				evictJarLookups(existing);
+			}
+			return new SchemaDescriptor(key, url);
+		});
+		// descriptors load their schema once, also when asked concurrently
 		return desc.getSchema(true);
 	}
 
@@ -68,28 +99,21 @@ public class SchemaRegistry {
 				return null;
 			}
 
-			ISchemaDescriptor desc = getExistingDescriptor(url.toString(), url);
-			if (desc == null) {
-				desc = new IncludedSchemaDescriptor(url);
-				fRegistry.put(url.toString(), desc);
-			}
+			ISchemaDescriptor desc = fRegistry.compute(url.toString(), (key, existing) -> {
+				if (existing != null) {
+					if (!hasSchemaChanged(existing, url)) {
+						return existing;
+					}
+					evictJarLookups(existing);
+				}
+				return new IncludedSchemaDescriptor(url);
+			});
 			return desc.getSchema(true);
 		} catch (MalformedURLException e) {
 		}
 		return null;
 	}
 
-	private ISchemaDescriptor getExistingDescriptor(String key, URL url) {
-		ISchemaDescriptor desc = null;
-		if (fRegistry.containsKey(key)) {
-			desc = fRegistry.get(key);
-			if (hasSchemaChanged(desc, url)) {
-				desc = null;
-			}
-		}
-		return desc;
-	}
-
 	public static URL getSchemaURL(IPluginExtensionPoint point, IPluginModelBase base) {
 		URL url = getSchemaURL(point);
 		if (url != null) {
@@ -166,7 +190,7 @@ public class SchemaRegistry {
 				if (schemaFile.exists()) {
 					return schemaFile.toURI().toURL();
 				}
-			} else if (CoreUtility.jarContainsResource(file, schema, false)) {
+			} else if (jarContainsSchema(file, schema)) {
 				return new URL("jar:file:" + file.getAbsolutePath() + "!/" + schema); //$NON-NLS-1$ //$NON-NLS-2$
 			}
 		} catch (MalformedURLException e) {
@@ -174,16 +198,73 @@ public class SchemaRegistry {
 		return null;
 	}
 
+	private static boolean jarContainsSchema(File jar, String schema) {
+		long lastModified = jar.lastModified();
+		String key = jar.getAbsolutePath() + "!/" + schema; //$NON-NLS-1$
+		if (lastModified == 0) {
+			// the jar is gone, do not keep a lookup for it
+			fgJarLookups.remove(key);
+			return false;
+		}
+		JarLookup lookup = fgJarLookups.get(key);
+		if (lookup == null || lookup.lastModified() != lastModified) {
+			lookup = new JarLookup(lastModified, CoreUtility.jarContainsResource(jar, schema, false));
+			fgJarLookups.put(key, lookup);
+		}
+		return lookup.contains();
+	}
+
+	/**
+	 * Returns the time stamp of the file containing the schema at the given
+	 * url. For a schema inside a jar this is the time stamp of the jar.
+	 *
+	 * @param url the schema location
+	 * @return the time stamp or <code>0</code> if the file does not exist
+	 */
+	static long getLastModified(URL url) {
+		return getFile(url).lastModified();
+	}
+
+	/**
+	 * Returns the file containing the schema at the given url, the jar for a
+	 * schema inside a jar
+	 */
+	private static File getFile(URL url) {
+		String path = url.getFile();
+		if ("jar".equals(url.getProtocol())) { //$NON-NLS-1$
+			int separator = path.indexOf("!/"); //$NON-NLS-1$
+			if (separator != -1) {
+				path = path.substring(0, separator);
+			}
+			if (path.startsWith("file:")) { //$NON-NLS-1$
+				path = path.substring(5);
+			}
+		}
+		return new File(path);
+	}
+
+	/**
+	 * Removes the cached lookups of the jar containing the schema of the given
+	 * descriptor, if it is in a jar
+	 */
+	private static void evictJarLookups(ISchemaDescriptor desc) {
+		URL url = desc.getSchemaURL();
+		if (url != null && "jar".equals(url.getProtocol())) { //$NON-NLS-1$
+			String prefix = getFile(url).getAbsolutePath() + "!/"; //$NON-NLS-1$
+			fgJarLookups.keySet().removeIf(key -> key.startsWith(prefix));
+		}
+	}
+
 	private boolean hasSchemaChanged(ISchemaDescriptor desc, URL url) {
 		if (!desc.getSchemaURL().toExternalForm().equals(url.toExternalForm())) {
 			return true;
 		}
-		File file = new File(url.getFile());
-		return (desc.getLastModified() != file.lastModified());
+		return (desc.getLastModified() != getLastModified(url));
 	}
 
 	public void shutdown() {
 		fRegistry.clear();
+		fgJarLookups.clear();
 	}
 
 	private static String getId(IPluginExtensionPoint point, IPluginModelBase base) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2024 Red Hat Inc. and others
+ * Copyright (c) 2016, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,9 @@
 package org.eclipse.pde.internal.genericeditor.target.extension.model.xml;
 
 import java.io.ByteArrayInputStream;
+import java.lang.ref.WeakReference;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -25,6 +27,7 @@ import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
 
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.DependencyNode;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.ITargetConstants;
 import org.eclipse.pde.internal.genericeditor.target.extension.model.LocationNode;
@@ -33,15 +36,28 @@ import org.eclipse.pde.internal.genericeditor.target.extension.model.UnitNode;
 
 /**
  * Class used to parse the XML code into the model.
+ * <p>
+ * The model of the last parsed document is kept together with the document's
+ * modification stamp, so that the content assist, code mining, validation and
+ * update command which all request a parse for the same document revision
+ * share a single parse instead of each re-reading the whole document.
+ * </p>
  */
 public class Parser {
 
+	private static final Pattern TAG_PATTERN = Pattern.compile("(?<tag><[\\w|/][^<]+?>)", Pattern.DOTALL); //$NON-NLS-1$
+	private static final Pattern COMMENT_PATTERN = Pattern.compile("(<!--.*?-->)", Pattern.DOTALL); //$NON-NLS-1$
+
 	private static Parser instance;
 
 	private Node target;
 
 	private XMLInputFactory inputFactory;
 
+	private WeakReference<IDocument> parsedDocument = new WeakReference<>(null);
+	private long parsedStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	private XMLStreamException parseError;
+
 	public Parser() {
 		initializeParser();
 	}
@@ -50,11 +66,49 @@ public class Parser {
 		inputFactory = XMLInputFactory.newInstance();
 	}
 
-	public void parse(IDocument document) throws XMLStreamException {
+	/**
+	 * Parses the given document into the model returned by
+	 * {@link #getRootNode()}. If the document has not been modified since it
+	 * was last parsed, the existing model (or parse error) is reused.
+	 *
+	 * @param document
+	 *            the target definition document
+	 * @throws XMLStreamException
+	 *             if the document is not well formed
+	 */
+	public synchronized void parse(IDocument document) throws XMLStreamException {
+		long stamp = getModificationStamp(document);
+		if (stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP && stamp == parsedStamp
+				&& parsedDocument.get() == document) {
+			if (parseError != null) {
+				throw parseError;
+			}
+			return;
+		}
+		String text = document.get();
+		parsedDocument = new WeakReference<>(document);
+		parsedStamp = stamp;
+		parseError = null;
+		try {
+			parse(text);
+		} catch (XMLStreamException e) {
+			parseError = e;
+			throw e;
+		}
+	}
+
+	private static long getModificationStamp(IDocument document) {
+		if (document instanceof IDocumentExtension4 extension) {
+			return extension.getModificationStamp();
+		}
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+
+	private void parse(String text) throws XMLStreamException {
 		target = null;
 		Node currentParent = null;
 		Node currentNode = null;
-		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(document.get());
+		Iterator<XMLElement> tagReaderIterator = createXMLTagItterator(text);
 		while (tagReaderIterator.hasNext()) {
 			XMLElement event = tagReaderIterator.next();
 			if (event.isStartElement()) {
@@ -102,7 +156,7 @@ public class Parser {
 				}
 			}
 		}
-		ByteArrayInputStream inputStream = new ByteArrayInputStream(document.get().getBytes());
+		ByteArrayInputStream inputStream = new ByteArrayInputStream(text.getBytes());
 		XMLEventReader eventReader = inputFactory.createXMLEventReader(inputStream);
 		while (eventReader.hasNext()) {
 			eventReader.nextEvent();
@@ -111,42 +165,45 @@ public class Parser {
 
 	private Iterator<XMLElement> createXMLTagItterator(String document) {
 		return new Iterator<>() {
-			private final String tagRegex = "(?<tag><[\\w|/][^<]+?>)";
-			private final String commentRegex = "(<!--.*?-->)";
-			private final String beforeTagRegex = ".*?(?=".concat(tagRegex).concat(")");
-
-			private String text = document;
+			private final Matcher tag = TAG_PATTERN.matcher(document);
+			private final Matcher comment = COMMENT_PATTERN.matcher(document);
 
-			private final Pattern tagPattern = Pattern.compile(tagRegex, Pattern.DOTALL);
-			private final Pattern commentPattern = Pattern.compile(commentRegex, Pattern.DOTALL);
-			private final Pattern beforeTagPattern = Pattern.compile(beforeTagRegex, Pattern.DOTALL);
+			private int position = 0;
+			private boolean hasNext = findNextTag();
 
 			@Override
 			public boolean hasNext() {
-				skipComments();
-				return text.length() > 0 && beforeTagPattern.matcher(text).find();
+				return hasNext;
 			}
 
 			@Override
 			public XMLElement next() {
-				skipComments();
-				text = beforeTagPattern.matcher(text).replaceFirst("");
-				Matcher tag = tagPattern.matcher(text);
-				tag.find();
-				int offset = document.length() - text.length();
-				text = text.substring(tag.end());
-				return new XMLElement(tag.group("tag"), offset);
+				if (!hasNext) {
+					throw new NoSuchElementException();
+				}
+				XMLElement element = new XMLElement(tag.group("tag"), tag.start()); //$NON-NLS-1$
+				position = tag.end();
+				hasNext = findNextTag();
+				return element;
 			}
 
-			private void skipComments() {
-				Matcher comment = commentPattern.matcher(text);
-				Matcher tag = tagPattern.matcher(text);
-				if (comment.find() && tag.find() && comment.start() < tag.start()) {
-					text = text.substring(comment.end());
+			/**
+			 * Moves the tag matcher to the next tag after the current position
+			 * that is not part of a comment, scanning the document only once.
+			 */
+			private boolean findNextTag() {
+				while (position < document.length() && tag.find(position)) {
+					if (comment.find(position) && comment.start() < tag.start()) {
+						position = comment.end();
+						continue;
+					}
+					return true;
 				}
+				return false;
 			}
 		};
 	}
+
 	public static Parser getDefault() {
 		if (instance == null) {
 			instance = new Parser();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2017, 2022 Red Hat Inc. and others
+ * Copyright (c) 2017, 2026 Red Hat Inc. and others
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.Map;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
 import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.Position;
 import org.eclipse.jface.text.reconciler.DirtyRegion;
@@ -35,6 +36,7 @@ public class FoldingReconcilerStrategy implements IReconcilingStrategy, IReconci
 
 	private IDocument document;
 	private String oldDocument;
+	private long oldStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 	private ProjectionViewer projectionViewer;
 	private final List<Annotation> oldAnnotations = new ArrayList<>();
 	private final List<Position> oldPositions = new ArrayList<>();
@@ -42,6 +44,8 @@ public class FoldingReconcilerStrategy implements IReconcilingStrategy, IReconci
 	@Override
 	public void setDocument(IDocument document) {
 		this.document = document;
+		this.oldDocument = null;
+		this.oldStamp = IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
 	}
 
 	public void setProjectionViewer(ProjectionViewer projectionViewer) {
@@ -64,10 +68,9 @@ public class FoldingReconcilerStrategy implements IReconcilingStrategy, IReconci
 			return;
 		}
 		ProjectionAnnotationModel projectionAnnotationModel = projectionViewer.getProjectionAnnotationModel();
-		if (document.get().equals(oldDocument) || projectionAnnotationModel == null) {
+		if (projectionAnnotationModel == null || !hasDocumentChanged()) {
 			return;
 		}
-		oldDocument = document.get();
 
 		List<Position> positions = getNewPositionsOfAnnotations();
 
@@ -94,6 +97,30 @@ public class FoldingReconcilerStrategy implements IReconcilingStrategy, IReconci
 		}
 	}
 
+	/**
+	 * Checks the document's modification stamp to avoid copying the whole
+	 * document text on every reconcile; falls back to comparing the content
+	 * for documents without stamps.
+	 */
+	private boolean hasDocumentChanged() {
+		if (document instanceof IDocumentExtension4 extension) {
+			long stamp = extension.getModificationStamp();
+			if (stamp != IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+				if (stamp == oldStamp) {
+					return false;
+				}
+				oldStamp = stamp;
+				return true;
+			}
+		}
+		String text = document.get();
+		if (text.equals(oldDocument)) {
+			return false;
+		}
+		oldDocument = text;
+		return true;
+	}
+
 	private enum SearchingFor {
 		START_OF_TAG, START_OF_WORD, END_OF_WORD, END_OF_COMMENT, END_OF_LINE
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2018, 2023 IBM Corporation and others.
+ *  Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -19,32 +19,157 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
 import org.osgi.framework.Bundle;
+import org.osgi.framework.namespace.PackageNamespace;
+import org.osgi.framework.wiring.BundleCapability;
+import org.osgi.framework.wiring.BundleWire;
+import org.osgi.framework.wiring.BundleWiring;
 
+/**
+ * Loads classes and resources from a list of bundles, trying them in order.
+ * <p>
+ * Class lookups first consult an index from package name to the bundles that
+ * export or import that package. If a single bundle is indexed for the
+ * package, only that bundle is asked. Otherwise, or if that bundle can not load
+ * the class, the bundles are asked in list order as before, so that split
+ * packages keep being loaded from the first bundle in the list. A bundle found
+ * that way for a package not in the index (e.g. a private package or a package
+ * visible through <code>Require-Bundle</code>) is added to the index. Classes
+ * that none of the bundles can load are remembered so that repeated lookups
+ * fail fast.
+ * </p>
+ * <p>
+ * With the <code>org.eclipse.pde.junit.runtime/debug/classloader</code>
+ * tracing option, the number of class lookups answered from the index or the
+ * caches and of those that had to ask the bundles in order are counted and
+ * printed by {@link #traceStatistics()}.
+ * </p>
+ */
 class MultiBundleClassLoader extends ClassLoader {
+
+	static {
+		registerAsParallelCapable();
+	}
+
+	private static final boolean DEBUG = "true".equalsIgnoreCase(Platform.getDebugOption("org.eclipse.pde.junit.runtime/debug/classloader")); //$NON-NLS-1$ //$NON-NLS-2$
+
 	private final List<Bundle> bundleList;
+	private final Map<String, List<Bundle>> packageIndex = new ConcurrentHashMap<>();
+	private final Map<String, Class<?>> loadedClasses = new ConcurrentHashMap<>();
+	private final Set<String> missingClasses = ConcurrentHashMap.newKeySet();
+	private final Map<String, List<URL>> resolvedResources = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
 
 	public MultiBundleClassLoader(List<Bundle> platformEngineBundles) {
 		super(null); // never delegate to system classloader, only load classes via given Bundles
 		this.bundleList = platformEngineBundles;
+		for (Bundle bundle : bundleList) {
+			indexPackages(bundle);
+		}
+	}
+
+	private void indexPackages(Bundle bundle) {
+		BundleWiring wiring = bundle.adapt(BundleWiring.class);
+		if (wiring == null) {
+			return;
+		}
+		List<BundleCapability> capabilities = wiring.getCapabilities(PackageNamespace.PACKAGE_NAMESPACE);
+		if (capabilities != null) {
+			for (BundleCapability capability : capabilities) {
+				addToIndex(capability, bundle);
+			}
+		}
+		List<BundleWire> wires = wiring.getRequiredWires(PackageNamespace.PACKAGE_NAMESPACE);
+		if (wires != null) {
+			for (BundleWire wire : wires) {
+				addToIndex(wire.getCapability(), bundle);
+			}
+		}
+	}
+
+	private void addToIndex(BundleCapability capability, Bundle bundle) {
+		Object packageName = capability.getAttributes().get(PackageNamespace.PACKAGE_NAMESPACE);
+		if (packageName instanceof String) {
+			addToIndex((String) packageName, bundle);
+		}
+	}
+
+	private void addToIndex(String packageName, Bundle bundle) {
+		List<Bundle> bundles = packageIndex.computeIfAbsent(packageName, p -> new CopyOnWriteArrayList<>());
+		if (!bundles.contains(bundle)) {
+			bundles.add(bundle);
+		}
 	}
 
 	@Override
 	protected Class<?> findClass(String name) throws ClassNotFoundException {
-		for (Bundle temp : bundleList) {
-			try {
-				Class<?> c = temp.loadClass(name);
-				if (c != null) {
-					return c;
+		Class<?> loaded = loadedClasses.get(name);
+		if (loaded != null) {
+			count(hits);
+			return loaded;
+		}
+		if (missingClasses.contains(name)) {
+			count(hits);
+			throw new ClassNotFoundException(name);
+		}
+		String packageName = getPackageName(name);
+		List<Bundle> candidates = packageIndex.get(packageName);
+		Bundle candidate = candidates != null && candidates.size() == 1 ? candidates.get(0) : null;
+		if (candidate != null) {
+			Class<?> c = loadClass(candidate, name);
+			if (c != null) {
+				count(hits);
+				loadedClasses.put(name, c);
+				return c;
+			}
+		}
+		count(misses);
+		// keep the list order if several bundles may provide the package
+		for (Bundle bundle : bundleList) {
+			if (bundle == candidate) {
+				continue;
+			}
+			Class<?> c = loadClass(bundle, name);
+			if (c != null) {
+				if (candidates == null) {
+					addToIndex(packageName, bundle);
 				}
-			} catch (ClassNotFoundException e) {
+				loadedClasses.put(name, c);
+				return c;
 			}
 		}
+		missingClasses.add(name);
 		throw new ClassNotFoundException(name);
 	}
 
+	private static void count(AtomicLong counter) {
+		if (DEBUG) {
+			counter.incrementAndGet();
+		}
+	}
+
+	private static Class<?> loadClass(Bundle bundle, String name) {
+		try {
+			return bundle.loadClass(name);
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	private static String getPackageName(String className) {
+		int index = className.lastIndexOf('.');
+		return index == -1 ? "" : className.substring(0, index); //$NON-NLS-1$
+	}
+
 	@Override
 	protected URL findResource(String name) {
 		for (Bundle temp : bundleList) {
@@ -62,13 +187,50 @@ class MultiBundleClassLoader extends ClassLoader {
 
 	@Override
 	protected Enumeration<URL> findResources(String name) throws IOException {
-		List<URL> merged = new ArrayList<>();
-		for (Bundle bundle : bundleList) {
-			Enumeration<URL> resources = bundle.getResources(name);
-			while (resources != null && resources.hasMoreElements()) {
-				merged.add(FileLocator.resolve(resources.nextElement()));
+		List<URL> resolved = resolvedResources.get(name);
+		if (resolved == null) {
+			List<URL> merged = new ArrayList<>();
+			for (Bundle bundle : bundleList) {
+				Enumeration<URL> resources = bundle.getResources(name);
+				while (resources != null && resources.hasMoreElements()) {
+					merged.add(FileLocator.resolve(resources.nextElement()));
+				}
 			}
+			// the bundles do not change while tests run, so resolve each resource name only once
+			resolved = Collections.unmodifiableList(merged);
+			resolvedResources.put(name, resolved);
 		}
-		return Collections.enumeration(merged);
+		return Collections.enumeration(resolved);
+	}
+
+	/**
+	 * @return the number of class lookups answered from the package index or
+	 *         the lookup caches, only counted with the tracing option
+	 */
+	long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * @return the number of class lookups that had to ask the bundles in
+	 *         order, only counted with the tracing option
+	 */
+	long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Prints the lookup counts if the tracing option is enabled
+	 */
+	void traceStatistics() {
+		if (DEBUG) {
+			System.out.println(this);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[bundles=" + bundleList.size() + ", hits=" + hits.get() + ", misses=" //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ misses.get() + ']';
 	}
-}
\ No newline at end of file
+}
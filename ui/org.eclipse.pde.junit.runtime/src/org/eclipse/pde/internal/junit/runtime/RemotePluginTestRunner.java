@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2003, 2023 IBM Corporation and others.
+ *  Copyright (c) 2003, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -37,6 +37,8 @@ import org.osgi.framework.wiring.BundleWiring;
  */
 public class RemotePluginTestRunner extends RemoteTestRunner {
 
+	private static List<Bundle> testEngineBundles;
+
 	private String fTestPluginName;
 	private ClassLoader fLoaderClassLoader;
 
@@ -110,6 +112,10 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 		}
 		testRunner.run();
 		if (isJUnit5(args)) {
+			ClassLoader testLoader = Thread.currentThread().getContextClassLoader();
+			if (testLoader instanceof MultiBundleClassLoader) {
+				((MultiBundleClassLoader) testLoader).traceStatistics();
+			}
 			Thread.currentThread().setContextClassLoader(currentTCCL);
 		}
 	}
@@ -147,8 +153,12 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 	}
 
 	private static List<Bundle> findTestEngineBundles() {
-		BundleContext bundleContext = FrameworkUtil.getBundle(RemotePluginTestRunner.class).getBundleContext();
-		return Arrays.stream(bundleContext.getBundles()).filter(RemotePluginTestRunner::providesCompatibleTestEngine).collect(toCollection(ArrayList::new));
+		// scanned once for both the initialization and the test class loader
+		if (testEngineBundles == null) {
+			BundleContext bundleContext = FrameworkUtil.getBundle(RemotePluginTestRunner.class).getBundleContext();
+			testEngineBundles = Arrays.stream(bundleContext.getBundles()).filter(RemotePluginTestRunner::providesCompatibleTestEngine).collect(toCollection(ArrayList::new));
+		}
+		return new ArrayList<>(testEngineBundles);
 	}
 
 	/**
@@ -203,10 +213,12 @@ public class RemotePluginTestRunner extends RemoteTestRunner {
 			// changing the classloader to get the testengines for junit5
 			// during initialization - see bug 520811
 			ClassLoader currentTCCL = Thread.currentThread().getContextClassLoader();
+			MultiBundleClassLoader initLoader = new MultiBundleClassLoader(findTestEngineBundles());
 			try {
-				Thread.currentThread().setContextClassLoader(new MultiBundleClassLoader(findTestEngineBundles()));
+				Thread.currentThread().setContextClassLoader(initLoader);
 				defaultInit(args);
 			} finally {
+				initLoader.traceStatistics();
 				Thread.currentThread().setContextClassLoader(currentTCCL);
 			}
 			return;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2022 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -111,13 +111,63 @@ public class BundleLauncherHelper {
 		return getMergedBundleMap(configuration, osgi, null);
 	}
 
+	/**
+	 * Key of the last computed bundle map: the (migrated) attributes of the
+	 * launch configuration, the time stamp of the target platform state the
+	 * bundles were selected from and the feature models, as feature based
+	 * launches and the launch requirements also depend on the content of the
+	 * features, which does not change the state.
+	 */
+	private record BundleMapKey(Map<String, Object> attributes, boolean osgi, long stateTimeStamp, List<FeatureStamp> features) {
+	}
+
+	/**
+	 * A feature model, compared by identity, with its time stamp. Workspace
+	 * models are reloaded in place when their feature.xml changes, external
+	 * models are replaced when the target changes.
+	 */
+	private record FeatureStamp(IFeatureModel model, long timeStamp) {
+	}
+
+	private static List<FeatureStamp> getFeatureStamps() {
+		FeatureModelManager fmm = PDECore.getDefault().getFeatureModelManager();
+		return Stream.concat(Arrays.stream(fmm.getWorkspaceModels()), Arrays.stream(fmm.getExternalModels())) //
+				.map(m -> new FeatureStamp(m, m.getTimeStamp())).toList();
+	}
+
+	private static final Object BUNDLE_MAP_LOCK = new Object();
+	private static BundleMapKey fgLastBundleMapKey;
+	private static Map<IPluginModelBase, String> fgLastBundleMap;
+
 	public static Map<IPluginModelBase, String> getMergedBundleMap(ILaunchConfiguration configuration, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
 
 		ILaunchConfigurationWorkingCopy wc = getWorkingCopy(configuration);
 		if (!osgi) {
-
 			migrateLaunchConfiguration(wc);
+		} else {
+			migrateOsgiLaunchConfiguration(wc);
+		}
+		if (features != null) {
+			// features are collected as a side effect and are not cached
+			return computeMergedBundleMap(configuration, wc, osgi, features);
+		}
+		// repeated launches of an unchanged configuration against an unchanged target select the same bundles
+		BundleMapKey key = new BundleMapKey(wc.getAttributes(), osgi, TargetPlatformHelper.getState().getTimeStamp(), getFeatureStamps());
+		synchronized (BUNDLE_MAP_LOCK) {
+			if (key.equals(fgLastBundleMapKey)) {
+				return new LinkedHashMap<>(fgLastBundleMap);
+			}
+		}
+		Map<IPluginModelBase, String> map = computeMergedBundleMap(configuration, wc, osgi, null);
+		synchronized (BUNDLE_MAP_LOCK) {
+			fgLastBundleMapKey = key;
+			fgLastBundleMap = new LinkedHashMap<>(map);
+		}
+		return map;
+	}
 
+	private static Map<IPluginModelBase, String> computeMergedBundleMap(ILaunchConfiguration configuration, ILaunchConfigurationWorkingCopy wc, boolean osgi, Map<IFeature, Boolean> features) throws CoreException {
+		if (!osgi) {
 			if (wc.getAttribute(IPDELauncherConstants.USE_DEFAULT, true)) {
 				Map<IPluginModelBase, String> map = new LinkedHashMap<>();
 				for (IPluginModelBase model : PluginRegistry.getActiveModels()) {
@@ -135,9 +185,6 @@ public class BundleLauncherHelper {
 				}
 				return map;
 			}
-
-		} else {
-			migrateOsgiLaunchConfiguration(wc);
 		}
 
 		if (wc.getAttribute(IPDELauncherConstants.USE_CUSTOM_FEATURES, false)) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2021 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -535,6 +535,10 @@ public class LaunchConfigurationHelper {
 	}
 
 	public static void save(File file, Properties properties) {
+		if (isUnchanged(file, properties)) {
+			// keep the file of the previous launch, only its comment would change
+			return;
+		}
 		try (FileOutputStream stream = new FileOutputStream(file)) {
 			properties.store(stream, "Configuration File"); //$NON-NLS-1$
 			stream.flush();
@@ -543,6 +547,19 @@ public class LaunchConfigurationHelper {
 		}
 	}
 
+	private static boolean isUnchanged(File file, Properties properties) {
+		if (!file.isFile()) {
+			return false;
+		}
+		Properties existing = new Properties();
+		try (FileInputStream stream = new FileInputStream(file)) {
+			existing.load(stream);
+		} catch (IOException e) {
+			return false;
+		}
+		return existing.equals(properties);
+	}
+
 	public static String getContributingPlugin(String productID) {
 		if (productID == null) {
 			return null;
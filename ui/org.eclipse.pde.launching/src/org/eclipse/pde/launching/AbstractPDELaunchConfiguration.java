@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2022 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -48,6 +48,7 @@ import org.eclipse.osgi.service.resolver.BundleDescription;
 import org.eclipse.pde.core.plugin.IPluginModelBase;
 import org.eclipse.pde.core.plugin.TargetPlatform;
 import org.eclipse.pde.internal.core.ICoreConstants;
+import org.eclipse.pde.internal.core.PDECore;
 import org.eclipse.pde.internal.core.PDEState;
 import org.eclipse.pde.internal.core.TargetPlatformHelper;
 import org.eclipse.pde.internal.core.builders.PDEMarkerFactory;
@@ -141,7 +142,9 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 		fConfigDir = null;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, 100);
 		try {
+			long start = System.currentTimeMillis();
 			launchedPlugins = computeLaunchedPlugins(configuration, subMonitor.split(10));
+			traceTime("Computing launched bundles", start); //$NON-NLS-1$
 			preLaunchCheck(configuration, launch, subMonitor.split(40));
 		} catch (CoreException e) {
 			if (e.getStatus().getSeverity() == IStatus.CANCEL) {
@@ -154,7 +157,9 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 		VMRunnerConfiguration runnerConfig = new VMRunnerConfiguration(getMainClass(), getClasspath(configuration));
 		IVMInstall launcher = VMHelper.createLauncher(configuration, launchedPlugins);
 		runnerConfig.setVMArguments(updateVMArgumentWithAdditionalArguments(getVMArguments(configuration), launcher));
+		long start = System.currentTimeMillis();
 		runnerConfig.setProgramArguments(getProgramArguments(configuration));
+		traceTime("Writing configuration area", start); //$NON-NLS-1$
 		runnerConfig.setWorkingDirectory(getWorkingDirectory(configuration).getAbsolutePath());
 		runnerConfig.setEnvironment(getEnvironment(configuration));
 		runnerConfig.setVMSpecificAttributesMap(getVMSpecificAttributesMap(configuration));
@@ -483,10 +488,18 @@ public abstract class AbstractPDELaunchConfiguration extends LaunchConfiguration
 	 * @since 3.3
 	 */
 	protected void synchronizeManifests(ILaunchConfiguration configuration, IProgressMonitor monitor) {
+		long start = System.currentTimeMillis();
 		LaunchConfigurationHelper.synchronizeManifests(configuration, getConfigDir(configuration));
+		traceTime("Synchronizing manifests", start); //$NON-NLS-1$
 		monitor.done();
 	}
 
+	private static void traceTime(String phase, long start) {
+		if (PDECore.DEBUG_LAUNCH) {
+			System.out.println(phase + ": " + (System.currentTimeMillis() - start) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+	}
+
 	/**
 	 * Checks if the Automated Management of Dependencies option is turned on.
 	 * If so, it makes sure all manifests are updated with the correct dependencies.
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,9 @@
 package org.eclipse.pde.spy.event.internal.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
@@ -25,18 +27,39 @@ import org.eclipse.pde.spy.event.internal.model.SpecialValue;
 
 public class CapturedEventFilterMatcher {
 	public boolean matches(CapturedEvent event, CapturedEventFilter filter) {
-		Object value = getItemToFilterValue(event, filter.getItemToFilter());
+		return compile(filter).test(event);
+	}
 
-		if (value instanceof List) {
-			List<?> list = (List<?>) value;
-			for (Object item : list) {
-				if (matches(filter.getValue(), item, filter.getOperator())) {
-					return true;
-				}
+	/**
+	 * Compiles the given filters into a single predicate that matches an event
+	 * if all filters match it. The filter values are normalized once here
+	 * instead of for every captured event.
+	 */
+	public Predicate<CapturedEvent> compile(Collection<CapturedEventFilter> filters) {
+		Predicate<CapturedEvent> result = event -> true;
+		if (filters != null) {
+			for (CapturedEventFilter filter : filters) {
+				result = result.and(compile(filter));
 			}
-			return false;
 		}
-		return matches(filter.getValue(), value, filter.getOperator());
+		return result;
+	}
+
+	private Predicate<CapturedEvent> compile(CapturedEventFilter filter) {
+		ItemToFilter itemToFilter = filter.getItemToFilter();
+		Predicate<Object> valueMatcher = compile(filter.getValue(), filter.getOperator());
+		return event -> {
+			Object value = getItemToFilterValue(event, itemToFilter);
+			if (value instanceof List<?> list) {
+				for (Object item : list) {
+					if (valueMatcher.test(item)) {
+						return true;
+					}
+				}
+				return false;
+			}
+			return valueMatcher.test(value);
+		};
 	}
 
 	private Object getItemToFilterValue(CapturedEvent event, ItemToFilter itemToFilter) {
@@ -76,30 +99,31 @@ public class CapturedEventFilterMatcher {
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedItem + itemToFilter.toString());
 	}
 
-	private boolean matches(String expected, Object current, Operator operator) {
+	private Predicate<Object> compile(String expected, Operator operator) {
 		if (SpecialValue.Null.toString().equalsIgnoreCase(expected)) {
-			return operator.isPositive() ? matchesToNull(current) : !matchesToNull(current);
+			return operator.isPositive() ? this::matchesToNull : current -> !matchesToNull(current);
 		}
 		if (SpecialValue.EmptyString.toString().equalsIgnoreCase(expected)) {
-			return operator.isPositive() ? matchesToEmptyString(current) : !matchesToEmptyString(current);
+			return operator.isPositive() ? this::matchesToEmptyString : current -> !matchesToEmptyString(current);
 		}
+		String expectedLowerCase = expected.toLowerCase();
 		if (Operator.Equals.equals(operator)) {
-			return equalsTo(expected, current);
+			return current -> equalsTo(expected, current);
 		}
 		if (Operator.NotEquals.equals(operator)) {
-			return !equalsTo(expected, current);
+			return current -> !equalsTo(expected, current);
 		}
 		if (Operator.Contains.equals(operator)) {
-			return contains(expected, current);
+			return current -> contains(expectedLowerCase, current);
 		}
 		if (Operator.NotContains.equals(operator)) {
-			return !contains(expected, current);
+			return current -> !contains(expectedLowerCase, current);
 		}
 		if (Operator.StartsWith.equals(operator)) {
-			return startsWith(expected, current);
+			return current -> startsWith(expectedLowerCase, current);
 		}
 		if (Operator.NotStartsWith.equals(operator)) {
-			return !startsWith(expected, current);
+			return current -> !startsWith(expectedLowerCase, current);
 		}
 
 		throw new IllegalArgumentException(Messages.CapturedEventFilterMatcher_NoSupportedOperator + operator);
@@ -117,11 +141,11 @@ public class CapturedEventFilterMatcher {
 		return current != null && expected.equalsIgnoreCase(current.toString());
 	}
 
-	private boolean contains(String expected, Object current) {
-		return current != null && current.toString().toLowerCase().contains(expected.toLowerCase());
+	private boolean contains(String expectedLowerCase, Object current) {
+		return current != null && current.toString().toLowerCase().contains(expectedLowerCase);
 	}
 
-	private boolean startsWith(String expected, Object current) {
-		return current != null && current.toString().toLowerCase().startsWith(expected.toLowerCase());
+	private boolean startsWith(String expectedLowerCase, Object current) {
+		return current != null && current.toString().toLowerCase().startsWith(expectedLowerCase);
 	}
 }
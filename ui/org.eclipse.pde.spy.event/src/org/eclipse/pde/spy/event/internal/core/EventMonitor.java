@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,9 +13,12 @@
  *******************************************************************************/
 package org.eclipse.pde.spy.event.internal.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.internal.workbench.UIEventPublisher;
@@ -23,54 +26,55 @@ import org.eclipse.e4.ui.services.internal.events.EventBroker;
 import org.eclipse.e4.ui.workbench.UIEvents;
 import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
+import org.osgi.service.event.Event;
 import org.osgi.service.event.EventHandler;
 
+/**
+ * Captures the events sent through the event broker.
+ * <p>
+ * The handler running on the publisher's thread only determines the publisher
+ * with a depth-limited {@link StackWalker} and pushes the raw event into a
+ * bounded ring buffer. Copying the event properties and matching the
+ * pre-compiled filters happens when the consumer drains the buffer. If the
+ * consumer falls behind, further events are dropped and counted instead of
+ * slowing down the publishers.
+ * </p>
+ */
 @SuppressWarnings("restriction")
 public class EventMonitor {
 
-	public interface NewEventListener {
-		void newEvent(CapturedEvent event);
-	}
+	private static final Set<String> EVENT_HELPER_CLASSES = Set.of(EventBroker.class.getName(),
+			UIEvents.class.getName(), UIEventPublisher.class.getName());
 
-	private static Set<Integer> EVENT_HELPER_CLASSES = Set.of(UIEvents.class.getName().hashCode(),
-			UIEventPublisher.class.getName().hashCode());
+	private static final int BUFFER_CAPACITY = 16 * 1024;
 
-	private Collection<CapturedEventFilter> filters;
+	/**
+	 * Number of stack frames inspected to find the publisher of an event
+	 */
+	private static final int MAX_STACK_DEPTH = 64;
 
-	private final IEventBroker eventBroker;
+	private static final StackWalker STACK_WALKER = StackWalker.getInstance();
 
-	private NewEventListener listener;
+	private record PendingEvent(Event event, String publisherClassName) {
+	}
 
-	private CapturedEventFilterMatcher eventFilterMatcher;
+	private final IEventBroker eventBroker;
 
-	private final EventHandler eventHandler = event -> {
-		if (listener == null) {
-			return;
-		}
+	private final EventRingBuffer<PendingEvent> buffer = new EventRingBuffer<>(BUFFER_CAPACITY);
 
-		CapturedEvent capturedEvent = new CapturedEvent();
-		capturedEvent.setTopic(event.getTopic());
-		capturedEvent.setPublisherClassName(getPublisherClassName());
+	private volatile Predicate<CapturedEvent> eventFilter = event -> true;
 
-		for (String propertyName : event.getPropertyNames()) {
-			Object value = event.getProperty(propertyName);
-			capturedEvent.addParameter(propertyName, value);
-			if (value != null && UIEvents.EventTags.ELEMENT.equals(propertyName)) {
-				capturedEvent.setChangedElementClassName(value.getClass().getName());
-			}
-		}
+	private CapturedEventFilterMatcher eventFilterMatcher;
 
-		if (shouldBeCaptured(capturedEvent)) {
-			listener.newEvent(capturedEvent);
-		}
-	};
+	private final EventHandler eventHandler = event -> buffer.offer(new PendingEvent(event, getPublisherClassName()));
 
 	public EventMonitor(IEventBroker eventBroker) {
 		this.eventBroker = eventBroker;
 	}
 
 	public void start(String baseTopic, Collection<CapturedEventFilter> filters) {
-		this.filters = filters;
+		buffer.clear();
+		eventFilter = getEventFilterMatcher().compile(filters);
 		eventBroker.subscribe(baseTopic, eventHandler);
 	}
 
@@ -78,35 +82,53 @@ public class EventMonitor {
 		eventBroker.unsubscribe(eventHandler);
 	}
 
-	public void setNewEventListener(NewEventListener listener) {
-		this.listener = listener;
+	/**
+	 * Removes up to <code>maxEvents</code> events from the capture buffer and
+	 * returns those matching the filters. Must only be called from a single
+	 * thread at a time.
+	 */
+	public List<CapturedEvent> drainEvents(int maxEvents) {
+		List<CapturedEvent> events = new ArrayList<>();
+		Predicate<CapturedEvent> filter = eventFilter;
+		for (PendingEvent pending : buffer.drain(maxEvents)) {
+			CapturedEvent capturedEvent = createCapturedEvent(pending);
+			if (filter.test(capturedEvent)) {
+				events.add(capturedEvent);
+			}
+		}
+		return events;
+	}
+
+	/**
+	 * @return the number of events dropped since capturing was started
+	 *         because the capture buffer was full
+	 */
+	public long getDroppedCount() {
+		return buffer.getDroppedCount();
 	}
 
-	private boolean shouldBeCaptured(CapturedEvent event) {
-		if (filters != null) {
-			Iterator<CapturedEventFilter> iter = filters.iterator();
-			while (iter.hasNext()) {
-				if (!getEventFilterMatcher().matches(event, iter.next())) {
-					return false;
-				}
+	private CapturedEvent createCapturedEvent(PendingEvent pending) {
+		Event event = pending.event();
+		CapturedEvent capturedEvent = new CapturedEvent();
+		capturedEvent.setTopic(event.getTopic());
+		capturedEvent.setPublisherClassName(pending.publisherClassName());
+
+		for (String propertyName : event.getPropertyNames()) {
+			Object value = event.getProperty(propertyName);
+			capturedEvent.addParameter(propertyName, value);
+			if (value != null && UIEvents.EventTags.ELEMENT.equals(propertyName)) {
+				capturedEvent.setChangedElementClassName(value.getClass().getName());
 			}
 		}
-		return true;
+		return capturedEvent;
 	}
 
 	private String getPublisherClassName() {
-		StackTraceElement[] items = Thread.currentThread().getStackTrace();
-		boolean foundEventBroker = false;
-
-		for (int i = 0; i < items.length; i++) {
-			String clsName = items[i].getClassName();
-			if (!foundEventBroker && clsName.equals(EventBroker.class.getName())) {
-				foundEventBroker = true;
-			} else if (foundEventBroker && !EVENT_HELPER_CLASSES.contains(clsName.hashCode())) {
-				return String.format("%s (%s:%d)", clsName, items[i].getMethodName(), items[i].getLineNumber()); //$NON-NLS-1$
-			}
-		}
-		return ""; //$NON-NLS-1$
+		Optional<StackWalker.StackFrame> publisher = STACK_WALKER.walk(frames -> frames.limit(MAX_STACK_DEPTH)
+				.dropWhile(frame -> !frame.getClassName().equals(EventBroker.class.getName()))
+				.filter(frame -> !EVENT_HELPER_CLASSES.contains(frame.getClassName())).findFirst());
+		return publisher.map(frame -> String.format("%s (%s:%d)", frame.getClassName(), frame.getMethodName(), //$NON-NLS-1$
+				frame.getLineNumber())).orElse(""); //$NON-NLS-1$
 	}
 
 	private CapturedEventFilterMatcher getEventFilterMatcher() {
@@ -0,0 +1,101 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.pde.spy.event.internal.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free ring buffer with many producers and a single consumer.
+ * Producers never block: elements offered while the buffer is full are
+ * dropped and counted.
+ */
+public class EventRingBuffer<E> {
+
+	private final AtomicReferenceArray<E> slots;
+	private final int capacity;
+	private final AtomicLong head = new AtomicLong();
+	private final AtomicLong tail = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+
+	public EventRingBuffer(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException("capacity must be positive: " + capacity); //$NON-NLS-1$
+		}
+		this.capacity = capacity;
+		this.slots = new AtomicReferenceArray<>(capacity);
+	}
+
+	/**
+	 * Adds the element if there is room for it.
+	 *
+	 * @return <code>false</code> if the buffer was full and the element was
+	 *         dropped
+	 */
+	public boolean offer(E element) {
+		while (true) {
+			long t = tail.get();
+			if (t - head.get() >= capacity) {
+				dropped.incrementAndGet();
+				return false;
+			}
+			if (tail.compareAndSet(t, t + 1)) {
+				slots.set(index(t), element);
+				return true;
+			}
+		}
+	}
+
+	/**
+	 * Removes up to <code>maxElements</code> elements in the order they were
+	 * offered. Must only be called by a single consumer at a time.
+	 */
+	public List<E> drain(int maxElements) {
+		List<E> elements = new ArrayList<>();
+		long h = head.get();
+		while (elements.size() < maxElements) {
+			int index = index(h);
+			E element = slots.get(index);
+			if (element == null) {
+				// empty, or the producer of this slot has not written it yet
+				break;
+			}
+			slots.set(index, null);
+			head.set(++h);
+			elements.add(element);
+		}
+		return elements;
+	}
+
+	/**
+	 * Discards all elements currently in the buffer and resets the drop
+	 * counter.
+	 */
+	public void clear() {
+		while (!drain(capacity).isEmpty()) {
+			// keep draining
+		}
+		dropped.set(0);
+	}
+
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+
+	private int index(long sequence) {
+		return (int) (sequence % capacity);
+	}
+}
@@ -14,6 +14,7 @@
 package org.eclipse.pde.spy.event.internal.ui;
 
 import java.util.ArrayList;
+import java.util.Collection;
 
 import org.eclipse.core.databinding.beans.typed.PojoProperties;
 import org.eclipse.core.databinding.observable.IObservable;
@@ -353,6 +354,15 @@ public class CapturedEventTree extends TreeViewer {
 		capturedEvents.add(event);
 	}
 
+	/**
+	 * Adds a batch of events with a single change notification.
+	 */
+	public void addEvents(Collection<CapturedEvent> events) {
+		if (!events.isEmpty()) {
+			capturedEvents.addAll(events);
+		}
+	}
+
 	public void setListener(ICapturedEventTreeListener listener) {
 		this.listener = listener;
 	}
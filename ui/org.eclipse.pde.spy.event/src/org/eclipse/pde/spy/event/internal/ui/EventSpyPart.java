@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2013, 2022 IBM Corporation and others.
+ * Copyright (c) 2013, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,7 +24,6 @@ import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.pde.spy.event.internal.core.EventMonitor;
-import org.eclipse.pde.spy.event.internal.model.CapturedEvent;
 import org.eclipse.pde.spy.event.internal.model.CapturedEventFilter;
 import org.eclipse.pde.spy.event.internal.util.JDTUtils;
 import org.eclipse.pde.spy.event.internal.util.LoggerWrapper;
@@ -34,15 +33,26 @@ import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.layout.RowData;
 import org.eclipse.swt.layout.RowLayout;
 import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Label;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
 
-public class EventSpyPart implements EventMonitor.NewEventListener {
+public class EventSpyPart {
 
 	private static final String[] SHOW_FILTER_LINK_TEXT = new String[] { Messages.EventSpyPart_ShowFilters, Messages.EventSpyPart_HideFilters };
 
+	/**
+	 * Interval in milliseconds in which captured events are moved to the tree
+	 */
+	private static final int DRAIN_INTERVAL = 100;
+
+	/**
+	 * Maximum number of captured events moved to the tree at once
+	 */
+	private static final int DRAIN_BATCH_SIZE = 1000;
+
 	private CapturedEventTree capturedEventTree;
 
 	private CapturedEventFilters capturedEventFilters;
@@ -53,6 +63,12 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 
 	private ToggleLink showFiltersLink;
 
+	private Label droppedEventsLabel;
+
+	private boolean capturing;
+
+	private final Runnable drainEvents = () -> drainEvents(DRAIN_BATCH_SIZE);
+
 	@Inject
 	private LoggerWrapper logger;
 
@@ -141,6 +157,9 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		showFiltersLink.setText(new String[] { SHOW_FILTER_LINK_TEXT[0], SHOW_FILTER_LINK_TEXT[1] });
 		showFiltersLink.getControl().setLayoutData(new RowData(130, SWT.DEFAULT));
 		showFiltersLink.setClickListener(this::showFilters);
+
+		droppedEventsLabel = new Label(actionBar, SWT.NONE);
+		droppedEventsLabel.setLayoutData(new RowData(150, SWT.DEFAULT));
 	}
 
 	private void createFilters(SpyPartMemento memento) {
@@ -168,9 +187,11 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		capturedEventTree.removeAll();
 		if (eventMonitor == null) {
 			eventMonitor = new EventMonitor(eventBroker);
-			eventMonitor.setNewEventListener(this);
 		}
 		eventMonitor.start(capturedEventFilters.getBaseTopic(), capturedEventFilters.getFilters());
+		droppedEventsLabel.setText(""); //$NON-NLS-1$
+		capturing = true;
+		outer.getDisplay().timerExec(DRAIN_INTERVAL, drainEvents);
 		// getShell().setText(DIALOG_TITLE + " - capturing...");
 	}
 
@@ -178,12 +199,27 @@ public class EventSpyPart implements EventMonitor.NewEventListener {
 		if (eventMonitor != null) {
 			eventMonitor.stop();
 		}
+		capturing = false;
+		if (!outer.isDisposed()) {
+			outer.getDisplay().timerExec(-1, drainEvents);
+			// no more events are captured, move all that are left to the tree
+			drainEvents(Integer.MAX_VALUE);
+		}
 		// getShell().setText(DIALOG_TITLE);
 	}
 
-	@Override
-	public void newEvent(CapturedEvent event) {
-		capturedEventTree.addEvent(event);
+	private void drainEvents(int maxEvents) {
+		if (outer.isDisposed() || eventMonitor == null) {
+			return;
+		}
+		capturedEventTree.addEvents(eventMonitor.drainEvents(maxEvents));
+		long dropped = eventMonitor.getDroppedCount();
+		if (dropped > 0) {
+			droppedEventsLabel.setText(String.format(Messages.EventSpyPart_DroppedEvents, dropped));
+		}
+		if (capturing) {
+			outer.getDisplay().timerExec(DRAIN_INTERVAL, drainEvents);
+		}
 	}
 
 	@SuppressWarnings("restriction")
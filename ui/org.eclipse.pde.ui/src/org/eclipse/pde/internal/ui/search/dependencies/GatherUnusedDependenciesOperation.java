@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2005, 2025 IBM Corporation and others.
+ *  Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
@@ -33,8 +34,11 @@ import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.ProgressMonitorWrapper;
 import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.jdt.core.search.SearchEngine;
@@ -166,27 +170,65 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 		IProject project = fModel.getUnderlyingResource().getProject();
 		if (PluginProject.isJavaProject(project)) {
 			IJavaProject javaProject = JavaCore.create(project);
+			Set<String> packageNames = new HashSet<>();
+			for (Object item : fList) {
+				if (item instanceof ImportPackageObject pkg) {
+					packageNames.add(pkg.getName());
+				}
+			}
+			if (packageNames.isEmpty()) {
+				return;
+			}
 			SubMonitor convert = SubMonitor.convert(monitor, "Search Source References for unused requirements", //$NON-NLS-1$
-					fList.size());
+					packageNames.size() + 1);
+			// search all packages at once and only search the remaining ones
+			// separately if a match can not be attributed to a package
+			PackageRequestor all = new PackageRequestor(packageNames);
+			Set<String> referenced = search(javaProject, packageNames, all, convert.split(1)) ? all.found
+					: packageNames;
+			if (all.unknown) {
+				referenced = new HashSet<>(all.found);
+				for (String packageName : packageNames) {
+					if (!referenced.contains(packageName)
+							&& isPackageReferenced(packageName, javaProject, convert.split(1))) {
+						referenced.add(packageName);
+					}
+				}
+			}
 			for (Iterator<Object> iterator = fList.iterator(); iterator.hasNext();) {
 				Object item = iterator.next();
-				if (item instanceof ImportPackageObject pkg) {
-					if (isPackageReferenced(pkg, javaProject, convert.split(1))) {
-						iterator.remove();
-					}
+				if (item instanceof ImportPackageObject pkg && referenced.contains(pkg.getName())) {
+					iterator.remove();
 				}
 			}
 		}
 	}
 
-	private boolean isPackageReferenced(ImportPackageObject pkg, IJavaProject javaProject, IProgressMonitor monitor) {
+	private boolean isPackageReferenced(String packageName, IJavaProject javaProject, IProgressMonitor monitor) {
+		Requestor requestor = new Requestor();
+		return !search(javaProject, Set.of(packageName), requestor, monitor) || requestor.used;
+	}
+
+	/**
+	 * Searches the references to the given packages in the sources of the
+	 * project until the requestor is done
+	 *
+	 * @return <code>false</code> if the search could not be performed
+	 */
+	private boolean search(IJavaProject javaProject, Collection<String> packageNames, Requestor requestor,
+			IProgressMonitor monitor) {
 		try {
 			SearchEngine engine = new SearchEngine();
 			IJavaSearchScope searchScope = PluginJavaSearchUtil.createSeachScope(javaProject);
-			Requestor requestor = new Requestor();
-			String packageName = pkg.getName();
-			SearchPattern pattern = SearchPattern.createPattern(packageName, IJavaSearchConstants.PACKAGE,
-					IJavaSearchConstants.REFERENCES, SearchPattern.R_EXACT_MATCH);
+			SearchPattern pattern = null;
+			for (String packageName : packageNames) {
+				SearchPattern packagePattern = SearchPattern.createPattern(packageName, IJavaSearchConstants.PACKAGE,
+						IJavaSearchConstants.REFERENCES, SearchPattern.R_EXACT_MATCH);
+				if (packagePattern == null) {
+					return false;
+				}
+				pattern = pattern == null ? packagePattern : SearchPattern.createOrPattern(pattern, packagePattern);
+			}
 			if (pattern != null) {
 				ProgressMonitorWrapper wrapper = new ProgressMonitorWrapper(monitor) {
 
@@ -209,12 +251,12 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 						throw e;
 					}
 				}
-				return requestor.used;
+				return true;
 			}
 		} catch (CoreException e) {
 		}
-		// can't tell, so better be safe and assume it is used...
-		return true;
+		// can't tell, so callers better be safe and assume it is used...
+		return false;
 	}
 
 	private static Collection<String> getExportedPackages(IPluginModelBase model) {
@@ -379,4 +421,52 @@ public class GatherUnusedDependenciesOperation implements IRunnableWithProgress
 			used = true;
 		}
 	}
+
+	/**
+	 * Records which of the searched packages are referenced and is done once
+	 * all of them were found
+	 */
+	private static class PackageRequestor extends Requestor {
+		private final Set<String> packageNames;
+		final Set<String> found = new HashSet<>();
+		// whether a match could not be attributed to one of the packages
+		boolean unknown;
+
+		PackageRequestor(Set<String> packageNames) {
+			this.packageNames = packageNames;
+		}
+
+		@Override
+		public void acceptSearchMatch(SearchMatch match) {
+			String packageName = getReferencedName(match);
+			if (packageName != null && packageNames.contains(packageName)) {
+				found.add(packageName);
+			} else {
+				unknown = true;
+			}
+			used = found.size() == packageNames.size();
+		}
+
+		private static String getReferencedName(SearchMatch match) {
+			if (match.getElement() instanceof IJavaElement element
+					&& element.getAncestor(IJavaElement.COMPILATION_UNIT) instanceof ICompilationUnit unit) {
+				try {
+					String source = unit.getSource();
+					int end = match.getOffset() + match.getLength();
+					if (source != null && match.getOffset() >= 0 && end <= source.length()) {
+						StringBuilder name = new StringBuilder();
+						for (int i = match.getOffset(); i < end; i++) {
+							char c = source.charAt(i);
+							if (!Character.isWhitespace(c)) {
+								name.append(c);
+							}
+						}
+						return name.toString();
+					}
+				} catch (JavaModelException e) {
+				}
+			}
+			return null;
+		}
+	}
 }
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,9 @@
  *******************************************************************************/
 package org.eclipse.pde.internal.ui.views.dependencies;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Set;
 
 import org.eclipse.jface.viewers.IStructuredContentProvider;
@@ -41,22 +42,17 @@ public class CallersListContentProvider extends CallersContentProvider implement
 		}
 		if (desc != null) {
 			Set<BundleDescription> callers = new HashSet<>();
-			Set<BundleDescription> candidates = new HashSet<>();
-			candidates.addAll(findReferences(desc));
+			Deque<BundleDescription> candidates = new ArrayDeque<>(findReferences(desc));
 			while (!candidates.isEmpty()) {
-				Set<BundleDescription> newCandidates = new HashSet<>();
-				for (Iterator<BundleDescription> it = candidates.iterator(); it.hasNext();) {
-					BundleDescription o = it.next();
-					it.remove();
-					if (!callers.contains(o)) {
-						callers.add(o);
-						newCandidates.addAll(findReferences(o));
+				BundleDescription candidate = candidates.pop();
+				if (callers.add(candidate)) {
+					for (BundleDescription caller : findReferences(candidate)) {
+						if (!callers.contains(caller)) {
+							candidates.push(caller);
+						}
 					}
 				}
-				candidates = newCandidates;
-
 			}
-
 			return callers.toArray();
 		}
 		return new Object[0];
@@ -1,5 +1,5 @@
 /*******************************************************************************
- *  Copyright (c) 2000, 2015 IBM Corporation and others.
+ *  Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  *  This program and the accompanying materials
  *  are made available under the terms of the Eclipse Public License 2.0
@@ -30,16 +30,21 @@ public class CallersTreeContentProvider extends CallersContentProvider implement
 
 	@Override
 	public Object[] getChildren(Object parentElement) {
-		if (parentElement instanceof IPluginBase) {
-			parentElement = ((IPluginBase) parentElement).getModel();
+		BundleDescription desc = getBundleDescription(parentElement);
+		if (desc != null) {
+			return findReferences(desc).toArray();
 		}
-		if (parentElement instanceof IPluginModelBase) {
-			parentElement = ((IPluginModelBase) parentElement).getBundleDescription();
+		return new Object[0];
+	}
+
+	private BundleDescription getBundleDescription(Object element) {
+		if (element instanceof IPluginBase) {
+			element = ((IPluginBase) element).getModel();
 		}
-		if (parentElement instanceof BundleDescription) {
-			return findReferences((BundleDescription) parentElement).toArray();
+		if (element instanceof IPluginModelBase) {
+			element = ((IPluginModelBase) element).getBundleDescription();
 		}
-		return new Object[0];
+		return element instanceof BundleDescription ? (BundleDescription) element : null;
 	}
 
 	/**
@@ -67,7 +72,9 @@ public class CallersTreeContentProvider extends CallersContentProvider implement
 	 */
 	@Override
 	public boolean hasChildren(Object element) {
-		return getChildren(element).length > 0;
+		// the references are already a new array, test them instead of copying them again
+		BundleDescription desc = getBundleDescription(element);
+		return desc != null && !findReferences(desc).isEmpty();
 	}
 
 }
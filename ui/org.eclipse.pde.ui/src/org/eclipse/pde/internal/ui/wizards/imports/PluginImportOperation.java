@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.ZipException;
 import java.util.zip.ZipFile;
 
@@ -35,6 +36,7 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IProjectDescription;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.resources.WorkspaceJob;
@@ -121,6 +123,19 @@ public class PluginImportOperation extends WorkspaceJob {
 	private final int fImportType;
 	private final Hashtable<IProject, IClasspathEntry[]> fProjectClasspaths = new Hashtable<>();
 
+	/**
+	 * Source lookup results for the models being imported, computed in
+	 * parallel before any project is created
+	 *
+	 * @param sourceManager the source manager providing separate source or
+	 *            <code>null</code>
+	 * @param internalSource whether the binary plug-in contains a source folder
+	 */
+	private record ImportPlan(SourceLocationManager sourceManager, boolean internalSource) {
+	}
+
+	private final Map<IPluginModelBase, ImportPlan> fImportPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Maps project ids to a List of IWorkingSets, the map is filled when determining what projects to delete
 	 */
@@ -226,7 +241,7 @@ public class PluginImportOperation extends WorkspaceJob {
 
 	@Override
 	public IStatus runInWorkspace(IProgressMonitor monitor) throws CoreException {
-		int ticks = (fImportType == IMPORT_FROM_REPOSITORY) ? fImportDescriptions.size() + 2 : fModels.length + 1;
+		int ticks = (fImportType == IMPORT_FROM_REPOSITORY) ? fImportDescriptions.size() + 2 : fModels.length + 4;
 		SubMonitor subMonitor = SubMonitor.convert(monitor, ticks);
 		MultiStatus multiStatus = new MultiStatus(PDEPlugin.getPluginId(), IStatus.OK,
 				PDEUIMessages.ImportWizard_operation_multiProblem, null);
@@ -279,6 +294,14 @@ public class PluginImportOperation extends WorkspaceJob {
 				}
 			}
 		} else {
+			// Stage 1: look up the source of all plug-ins in parallel, this
+			// only reads the target and source locations
+			prepareImports(subMonitor.split(1));
+			if (subMonitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			// Stage 2: create and fill the projects, all within this workspace
+			// operation
 			for (IPluginModelBase model : fModels) {
 				subMonitor.setTaskName(NLS.bind(PDEUIMessages.PluginImportOperation_Importing_plugin,
 						model.getPluginBase().getId()));
@@ -296,6 +319,7 @@ public class PluginImportOperation extends WorkspaceJob {
 					return Status.CANCEL_STATUS;
 				}
 			}
+			// Stage 3: set all classpaths in one batch
 			subMonitor.setTaskName(PDEUIMessages.PluginImportOperation_Set_up_classpaths);
 			try {
 				setClasspaths(subMonitor.split(1));
@@ -457,17 +481,54 @@ public class PluginImportOperation extends WorkspaceJob {
 	}
 
 	/**
-	 * Sets the raw classpath of projects that need to be updated
+	 * Looks up the source locations of all plug-ins being imported in parallel.
+	 * The results are used by {@link #getSourceManager(IPluginModelBase)} and
+	 * {@link #canFindSource(IPluginModelBase)} while the projects are created.
+	 *
+	 * @param monitor progress monitor, used for cancellation
+	 */
+	private void prepareImports(IProgressMonitor monitor) {
+		SubMonitor subMonitor = SubMonitor.convert(monitor, 1);
+		// initialize the lazily computed source locations before the parallel lookups
+		for (SourceLocationManager manager : new SourceLocationManager[] { fAlternateSource, PDECore.getDefault().getSourceLocationManager() }) {
+			if (manager != null) {
+				manager.getBundleManifestLocations();
+				manager.getExtensionLocations();
+			}
+		}
+		Arrays.stream(fModels).parallel().forEach(model -> {
+			if (subMonitor.isCanceled() || model.getInstallLocation() == null) {
+				return;
+			}
+			SourceLocationManager manager = findSourceManager(model);
+			boolean internalSource = fImportType == IMPORT_WITH_SOURCE && manager == null && canFindInternalSource(model);
+			fImportPlans.put(model, new ImportPlan(manager, internalSource));
+		});
+		subMonitor.worked(1);
+	}
+
+	/**
+	 * Sets the raw classpath of projects that need to be updated. The Java
+	 * model changes are reported in a single batch.
 	 * @throws JavaModelException if a classpath could not be set
 	 */
 	private void setClasspaths(IProgressMonitor monitor) throws JavaModelException {
-		SubMonitor subMonitor = SubMonitor.convert(monitor, fProjectClasspaths.size());
-		Enumeration<IProject> keys = fProjectClasspaths.keys();
-		while (keys.hasMoreElements()) {
-			IProject project = keys.nextElement();
-			IClasspathEntry[] classpath = fProjectClasspaths.get(project);
-			subMonitor.subTask(project.getName());
-			JavaCore.create(project).setRawClasspath(classpath, subMonitor.split(1));
+		IWorkspaceRunnable runnable = m -> {
+			SubMonitor subMonitor = SubMonitor.convert(m, fProjectClasspaths.size());
+			Enumeration<IProject> keys = fProjectClasspaths.keys();
+			while (keys.hasMoreElements()) {
+				IProject project = keys.nextElement();
+				IClasspathEntry[] classpath = fProjectClasspaths.get(project);
+				subMonitor.subTask(project.getName());
+				JavaCore.create(project).setRawClasspath(classpath, subMonitor.split(1));
+			}
+		};
+		try {
+			JavaCore.run(runnable, monitor);
+		} catch (JavaModelException e) {
+			throw e;
+		} catch (CoreException e) {
+			throw new JavaModelException(e);
 		}
 	}
 
@@ -793,12 +854,24 @@ public class PluginImportOperation extends WorkspaceJob {
 	 * @return true if source was found for at least one library, false otherwise
 	 */
 	private boolean canFindSource(IPluginModelBase model) {
+		ImportPlan plan = fImportPlans.get(model);
+		if (plan != null) {
+			return plan.sourceManager() != null || plan.internalSource();
+		}
+
 		// Check the manager(s) for source
 		if (getSourceManager(model) != null) {
 			return true;
 		}
+		return canFindInternalSource(model);
+	}
 
-		// Check for source inside the binary plug-in
+	/**
+	 * Checks for source inside the binary plug-in
+	 * @param model model to lookup source for
+	 * @return true if the plug-in contains a source folder
+	 */
+	private boolean canFindInternalSource(IPluginModelBase model) {
 		if (isJARd(model)) {
 			try (ZipFile zip = new ZipFile(new File(model.getInstallLocation()))) {
 				IImportStructureProvider provider = new ZipFileStructureProvider(zip);
@@ -833,6 +906,14 @@ public class PluginImportOperation extends WorkspaceJob {
 	 * @return the most relevant source manager than contains source for the plug-in or <code>null</code> if no separate source could be found
 	 */
 	private SourceLocationManager getSourceManager(IPluginModelBase model) {
+		ImportPlan plan = fImportPlans.get(model);
+		if (plan != null) {
+			return plan.sourceManager();
+		}
+		return findSourceManager(model);
+	}
+
+	private SourceLocationManager findSourceManager(IPluginModelBase model) {
 		// Check the alternate source manager first
 		if (fAlternateSource != null) {
 			// Check for a source bundle